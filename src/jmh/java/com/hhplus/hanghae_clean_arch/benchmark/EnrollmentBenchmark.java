@@ -0,0 +1,187 @@
+package com.hhplus.hanghae_clean_arch.benchmark;
+
+import com.hhplus.hanghae_clean_arch.HanghaeCleanArchApplication;
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.controller.LectureController;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureRequestDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentConcurrencyStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentWriteBuffer;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SeatReservationManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 특강 신청 경로 벤치마크 (H2 MariaDB 모드를 로컬 대체 DB로 사용)
+ *
+ * - uncontended: 스레드 1개, 강의 1개
+ * - hotLecture: 스레드 N개가 강의 1개에 동시 신청
+ * - manyLectures: 스레드 N개가 여러 강의에 분산 신청
+ *
+ * 각 시나리오는 락 방식(strategy)별로 실행되며, gc 프로파일러로 할당률(gc.alloc.rate.norm)을 함께 기록한다.
+ * 스레드 수는 build.gradle의 jmh { threads = N } 으로 바꿀 수 있다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EnrollmentBenchmark {
+
+    private static final int LECTURE_COUNT = 100;
+    private static final String LOCK_FREE = "LOCK_FREE";
+
+    /**
+     * EnrollmentStrategyType의 각 방식 + LOCK_FREE(메모리 좌석 선점 + write-behind 배치 저장)
+     */
+    @Param({"PESSIMISTIC", "OPTIMISTIC", "CONDITIONAL_UPDATE", "SHARDED_COUNTER", "DISTRIBUTED_LOCK", LOCK_FREE})
+    public String strategy;
+
+    private ConfigurableApplicationContext context;
+    private EnrollmentConcurrencyStrategy enrollmentStrategy;
+    private LectureApplicationFacade lectureApplicationFacade;
+    private LectureController lectureController;
+    private LectureService lectureService;
+    private StudentRepository studentRepository;
+    private SeatReservationManager seatReservationManager;
+    private EnrollmentWriteBuffer enrollmentWriteBuffer;
+
+    private Long hotLectureId;
+    private List<Long> lectureIds;
+    private Long probeLectureId;
+    private Student probeStudent;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HanghaeCleanArchApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        //write-behind가 켜지면 facade가 SHARDED_COUNTER 외 방식을 모두 배치 저장으로 보내므로 LOCK_FREE에서만 켬
+                        "lecture.write-behind.enabled=" + LOCK_FREE.equals(strategy),
+                        //facade/controller 벤치마크도 같은 방식으로 실행
+                        "lecture.enrollment.strategy=" + (LOCK_FREE.equals(strategy) ? "PESSIMISTIC" : strategy),
+                        "logging.level.root=WARN")
+                .run();
+
+        if (!LOCK_FREE.equals(strategy)) {
+            EnrollmentStrategyType type = EnrollmentStrategyType.valueOf(strategy);
+            enrollmentStrategy = context.getBeansOfType(EnrollmentConcurrencyStrategy.class).values().stream()
+                    .filter(candidate -> candidate.type() == type)
+                    .findFirst()
+                    .orElseThrow();
+        }
+        lectureApplicationFacade = context.getBean(LectureApplicationFacade.class);
+        lectureController = context.getBean(LectureController.class);
+        lectureService = context.getBean(LectureService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+        seatReservationManager = context.getBean(SeatReservationManager.class);
+        enrollmentWriteBuffer = context.getBean(EnrollmentWriteBuffer.class);
+
+        //정원 제한에 걸리지 않도록 충분히 큰 정원으로 생성
+        LectureRepository lectureRepository = context.getBean(LectureRepository.class);
+        lectureIds = new ArrayList<>(LECTURE_COUNT);
+        for (int i = 0; i < LECTURE_COUNT; i++) {
+            lectureIds.add(lectureRepository.save(new Lecture("벤치마크 특강" + i, "김강사", 1_000_000_000, LocalDateTime.now())).getId());
+        }
+        hotLectureId = lectureIds.get(0);
+
+        //중복 신청용: 미리 한 번 신청해 둔 학생
+        probeLectureId = lectureIds.get(LECTURE_COUNT - 1);
+        probeStudent = studentRepository.save(newStudent());
+        lectureService.applyLecture(probeLectureId, probeStudent);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void uncontended() {
+        apply(hotLectureId);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void hotLecture() {
+        apply(hotLectureId);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void manyLectures() {
+        apply(lectureIds.get(ThreadLocalRandom.current().nextInt(LECTURE_COUNT)));
+    }
+
+    //중복 신청 거절 비용 (유니크 제약 위반 후 롤백)
+    @Benchmark
+    @Threads(1)
+    public Object duplicateApply() {
+        try {
+            lectureService.applyLecture(probeLectureId, probeStudent);
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    //facade 계층 (좌석 선점 + 기본 신청 경로)
+    @Benchmark
+    @Threads(8)
+    public void facadeApply() {
+        lectureApplicationFacade.applyLecture(randomLectureId(), newStudent());
+    }
+
+    //controller 계층 (DTO 변환 + facade, HTTP 제외)
+    @Benchmark
+    @Threads(8)
+    public Object controllerApply() {
+        return lectureController.applyLecture(new LectureRequestDto(randomLectureId(), null, "학생" + sequence.incrementAndGet()), null, null);
+    }
+
+    private void apply(Long lectureId) {
+        //재시도 중 학생 저장이 롤백되지 않도록 학생은 미리 저장
+        Student student = studentRepository.save(newStudent());
+        if (LOCK_FREE.equals(strategy)) {
+            applyLockFree(lectureId, student);
+        } else {
+            enrollmentStrategy.apply(lectureId, student);
+        }
+    }
+
+    private void applyLockFree(Long lectureId, Student student) {
+        Long studentId = student.getId();
+        seatReservationManager.reserve(lectureId, studentId);
+        enrollmentWriteBuffer.submit(lectureId, studentId).join();
+    }
+
+    private Long randomLectureId() {
+        return lectureIds.get(ThreadLocalRandom.current().nextInt(LECTURE_COUNT));
+    }
+
+    private Student newStudent() {
+        Student student = new Student();
+        student.setName("학생" + sequence.incrementAndGet());
+        return student;
+    }
+}
@@ -0,0 +1,331 @@
+package com.hhplus.hanghae_clean_arch.loadtest;
+
+import com.hhplus.hanghae_clean_arch.HanghaeCleanArchApplication;
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureSeatSlotManager;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SeatReservationManager;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 수강 신청 오픈 부하 재현기 (./gradlew loadTest, H2 MariaDB 모드를 로컬 대체 DB로 사용)
+ *
+ * 인기도가 Zipf 분포로 편중된 강의 N개에 학생 M명이 도착 곡선에 따라 몰려 신청하는 상황을 신청 방식별로 재현하고,
+ * 처리량, 도착 시각 기준 지연(p50/p99/p999), 락 대기 시간과 정합성(정원 초과, 중복 신청, 신청 인원 불일치)을 출력한다.
+ * 같은 시드면 모든 방식이 같은 요청 순서를 받으며, 정합성이 깨지면 0이 아닌 코드로 종료한다.
+ */
+public class EnrollmentOpenLoadTest {
+
+    private final LoadScenario scenario;
+
+    public EnrollmentOpenLoadTest(LoadScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public static void main(String[] args) {
+        LoadScenario scenario = LoadScenario.fromSystemProperties();
+        System.out.println(scenario);
+
+        EnrollmentOpenLoadTest loadTest = new EnrollmentOpenLoadTest(scenario);
+        List<Result> results = new ArrayList<>();
+        for (EnrollmentStrategyType strategy : scenario.strategies()) {
+            results.add(loadTest.run(strategy, false));
+        }
+        if (scenario.writeBehind()) {
+            //좌석 선점 후 배치로 저장 (신청 방식은 배치 저장을 쓰지 않는 요청에만 적용)
+            results.add(loadTest.run(EnrollmentStrategyType.PESSIMISTIC, true));
+        }
+
+        System.out.println();
+        System.out.println("strategy            requests  applied  full  dup  failed  retries  throughput(req/s)  commits/s  p50(ms)  p99(ms)  p999(ms)  lockWait avg/max(ms)");
+        results.forEach(result -> System.out.println(result.row()));
+
+        System.out.println();
+        boolean consistent = true;
+        for (Result result : results) {
+            for (String violation : result.violations()) {
+                System.out.println("[" + result.name() + "] " + violation);
+                consistent = false;
+            }
+        }
+        System.out.println(consistent ? "정합성 위반 없음" : "정합성 위반 발생");
+        System.exit(consistent ? 0 : 1);
+    }
+
+    public Result run(EnrollmentStrategyType strategy, boolean writeBehind) {
+        String database = "load_" + strategy.name().toLowerCase() + (writeBehind ? "_wb" : "");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HanghaeCleanArchApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "lecture.enrollment.strategy=" + strategy,
+                        "lecture.write-behind.enabled=" + writeBehind,
+                        "lecture.reservation.enabled=" + System.getProperty("load.reservation", "true"),
+                        "logging.level.root=WARN")
+                .run()) {
+            List<Long> lectureIds = createLectures(context.getBean(LectureRepository.class));
+            List<Student> students = createStudents(context.getBean(StudentRepository.class));
+            //메모리 좌석 선점 상태를 방금 만든 강의 기준으로 다시 적재
+            context.getBean(SeatReservationManager.class).warmUp();
+
+            LectureApplicationFacade facade = context.getBean(LectureApplicationFacade.class);
+            Result result = replay(strategy, writeBehind, facade, lectureIds, students, context.getBean(MeterRegistry.class));
+            result.violations().addAll(checkInvariants(context, result));
+            return result;
+        }
+    }
+
+    private List<Long> createLectures(LectureRepository lectureRepository) {
+        List<Long> lectureIds = new ArrayList<>(scenario.lectures());
+        for (int i = 0; i < scenario.lectures(); i++) {
+            Lecture lecture = new Lecture("부하 테스트 특강" + i, "김강사", scenario.capacity(), LocalDateTime.now().plusDays(1));
+            lectureIds.add(lectureRepository.save(lecture).getId());
+        }
+        return lectureIds;
+    }
+
+    private List<Student> createStudents(StudentRepository studentRepository) {
+        List<Student> students = new ArrayList<>(scenario.students());
+        for (int i = 0; i < scenario.students(); i++) {
+            Student student = new Student();
+            student.setName("학생" + i);
+            student.setExternalId("load-student-" + i);
+            students.add(student);
+        }
+        return studentRepository.saveAll(students);
+    }
+
+    //시드 기준으로 (도착 시각, 학생, 강의) 요청 목록을 만들고 도착 시각에 맞춰 실행
+    private Result replay(EnrollmentStrategyType strategy, boolean writeBehind, LectureApplicationFacade facade,
+                          List<Long> lectureIds, List<Student> students, MeterRegistry meterRegistry) {
+        Random random = new Random(scenario.seed());
+        ZipfSampler lecturePopularity = new ZipfSampler(lectureIds.size(), scenario.zipfExponent());
+
+        List<int[]> attempts = new ArrayList<>(scenario.totalRequests());
+        for (int student = 0; student < students.size(); student++) {
+            for (int i = 0; i < scenario.attemptsPerStudent(); i++) {
+                attempts.add(new int[]{student, lecturePopularity.next(random)});
+            }
+        }
+        Collections.shuffle(attempts, random);
+        long[] arrivalOffsets = arrivalOffsets(attempts.size(), random);
+
+        Counters counters = new Counters();
+        long[] latencies = new long[attempts.size()];
+        Semaphore clients = new Semaphore(scenario.concurrency());
+        CountDownLatch done = new CountDownLatch(attempts.size());
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < attempts.size(); i++) {
+                long arrivalAt = startedAt + arrivalOffsets[i];
+                long waitNanos = arrivalAt - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                clients.acquireUninterruptibly();
+
+                int index = i;
+                Long lectureId = lectureIds.get(attempts.get(i)[1]);
+                Student student = copyOf(students.get(attempts.get(i)[0]));
+                executorService.execute(() -> {
+                    try {
+                        apply(facade, lectureId, student, counters);
+                    } finally {
+                        //클라이언트 슬롯 대기를 포함해 도착 시각부터 측정 (coordinated omission 보정)
+                        latencies[index] = System.nanoTime() - arrivalAt;
+                        clients.release();
+                        done.countDown();
+                    }
+                });
+            }
+            done.awaitUninterruptibly();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        return new Result(strategy, writeBehind, attempts.size(), counters, elapsedNanos, latencies, lockWait(meterRegistry, strategy), new ArrayList<>());
+    }
+
+    private long[] arrivalOffsets(int count, Random random) {
+        long durationNanos = TimeUnit.MILLISECONDS.toNanos(scenario.durationMs());
+        long[] offsets = new long[count];
+        switch (scenario.arrival()) {
+            case BURST -> Arrays.fill(offsets, 0);
+            case RAMP -> {
+                //도착률이 선형 증가하면 누적 도착 비율은 (t/T)^2 이므로 t = T * sqrt(u)
+                for (int i = 0; i < count; i++) {
+                    offsets[i] = (long) (durationNanos * Math.sqrt((i + 0.5) / count));
+                }
+            }
+            case POISSON -> {
+                double meanGap = (double) durationNanos / count;
+                double at = 0;
+                for (int i = 0; i < count; i++) {
+                    at += -Math.log(1 - random.nextDouble()) * meanGap;
+                    offsets[i] = (long) at;
+                }
+            }
+        }
+        return offsets;
+    }
+
+    private void apply(LectureApplicationFacade facade, Long lectureId, Student student, Counters counters) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                facade.applyLecture(lectureId, student);
+                counters.applied.incrementAndGet();
+                return;
+            } catch (LectureBusyException | TransientDataAccessException e) {
+                //혼잡/락 실패는 지터 포함 지수 백오프 후 재시도
+                if (attempt >= scenario.maxRetries()) {
+                    counters.failed.incrementAndGet();
+                    return;
+                }
+                counters.retries.incrementAndGet();
+                long backoffMillis = 10L << Math.min(attempt, 6);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(ThreadLocalRandom.current().nextLong(backoffMillis / 2, backoffMillis + 1)));
+            } catch (IllegalStateException e) {
+                String message = String.valueOf(e.getMessage());
+                if (message.contains("정원")) {
+                    counters.full.incrementAndGet();
+                } else if (message.contains("이미")) {
+                    counters.duplicate.incrementAndGet();
+                } else {
+                    counters.failed.incrementAndGet();
+                }
+                return;
+            } catch (RuntimeException e) {
+                counters.failed.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    //신청마다 새 요청으로 들어오는 것처럼 학생 객체를 복사
+    private Student copyOf(Student source) {
+        Student student = new Student();
+        student.setId(source.getId());
+        student.setName(source.getName());
+        student.setExternalId(source.getExternalId());
+        return student;
+    }
+
+    private LockWait lockWait(MeterRegistry meterRegistry, EnrollmentStrategyType strategy) {
+        long count = 0;
+        double totalMillis = 0;
+        double maxMillis = 0;
+        for (Timer timer : meterRegistry.find("enrollment.stage").tag("stage", "lock_acquire").tag("strategy", strategy.name()).timers()) {
+            count += timer.count();
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+            maxMillis = Math.max(maxMillis, timer.max(TimeUnit.MILLISECONDS));
+        }
+        return new LockWait(count == 0 ? 0 : totalMillis / count, maxMillis);
+    }
+
+    private List<String> checkInvariants(ConfigurableApplicationContext context, Result result) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LectureSeatSlotManager lectureSeatSlotManager = context.getBean(LectureSeatSlotManager.class);
+        List<String> violations = new ArrayList<>();
+
+        Map<Long, Long> historyCounts = new HashMap<>();
+        jdbcTemplate.query("SELECT lecture_id, COUNT(*) FROM lecture_history GROUP BY lecture_id",
+                rs -> { historyCounts.put(rs.getLong(1), rs.getLong(2)); });
+
+        long totalHistories = 0;
+        for (Lecture lecture : context.getBean(LectureRepository.class).findAll()) {
+            long histories = historyCounts.getOrDefault(lecture.getId(), 0L);
+            totalHistories += histories;
+            if (histories > lecture.getCapacity()) {
+                violations.add("정원 초과: 강의 " + lecture.getId() + " 정원 " + lecture.getCapacity() + ", 신청 " + histories);
+            }
+            int enrolled = lectureSeatSlotManager.getCurrentEnrollment(lecture);
+            if (enrolled != histories) {
+                violations.add("신청 인원 불일치: 강의 " + lecture.getId() + " 카운터 " + enrolled + ", 신청 내역 " + histories);
+            }
+        }
+
+        Integer duplicates = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT lecture_id, student_id FROM lecture_history GROUP BY lecture_id, student_id HAVING COUNT(*) > 1) d",
+                Integer.class);
+        if (duplicates != null && duplicates > 0) {
+            violations.add("중복 신청: " + duplicates + "건");
+        }
+        if (totalHistories != result.counters().applied.get()) {
+            violations.add("성공 응답 수 불일치: 성공 " + result.counters().applied.get() + ", 신청 내역 " + totalHistories);
+        }
+        return violations;
+    }
+
+    static class Counters {
+        final AtomicInteger applied = new AtomicInteger();
+        final AtomicInteger full = new AtomicInteger();
+        final AtomicInteger duplicate = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger retries = new AtomicInteger();
+    }
+
+    record LockWait(double avgMillis, double maxMillis) {
+    }
+
+    public record Result(EnrollmentStrategyType strategy, boolean writeBehind, int requests, Counters counters, long elapsedNanos,
+                         long[] sortedLatencies, LockWait lockWait, List<String> violations) {
+
+        String name() {
+            return writeBehind ? strategy + "+WB" : strategy.name();
+        }
+
+        //throughput은 처리한 요청 수, commits/s는 저장에 성공한 신청 수 기준
+        String row() {
+            double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+            return String.format("%-18s %9d %8d %5d %4d %7d %8d %18.1f %10.1f %8.1f %8.1f %9.1f %10.1f/%.1f",
+                    name(), requests, counters.applied.get(), counters.full.get(), counters.duplicate.get(),
+                    counters.failed.get(), counters.retries.get(),
+                    requests / elapsedSeconds,
+                    counters.applied.get() / elapsedSeconds,
+                    percentile(0.50), percentile(0.99), percentile(0.999),
+                    lockWait.avgMillis(), lockWait.maxMillis());
+        }
+
+        private double percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.hhplus.hanghae_clean_arch.loadtest;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 신청 오픈 부하 시나리오 설정 (-Pload.xxx=값 으로 변경, build.gradle의 loadTest 태스크 참고)
+ *
+ * @param lectures           강의 수
+ * @param capacity           강의별 정원
+ * @param students           학생 수
+ * @param attemptsPerStudent 학생별 신청 시도 수 (같은 강의를 다시 고르면 중복 신청이 됨)
+ * @param zipfExponent       강의 인기도 편중 정도 (0이면 균등, 클수록 상위 강의에 집중)
+ * @param arrival            요청 도착 곡선
+ * @param durationMs         도착 곡선 길이 (BURST는 무시)
+ * @param concurrency        동시에 처리 중인 요청 상한 (클라이언트 수)
+ * @param maxRetries         혼잡(LectureBusyException) 등 일시적 실패 시 재시도 횟수
+ * @param strategies         비교할 신청 방식
+ * @param writeBehind        방식별 실행 뒤 write-behind 배치 저장(PESSIMISTIC 기준)으로 한 번 더 실행해 커밋 처리량 비교
+ * @param seed               난수 시드 (같은 시드면 같은 요청 순서)
+ */
+public record LoadScenario(int lectures,
+                           int capacity,
+                           int students,
+                           int attemptsPerStudent,
+                           double zipfExponent,
+                           ArrivalCurve arrival,
+                           long durationMs,
+                           int concurrency,
+                           int maxRetries,
+                           List<EnrollmentStrategyType> strategies,
+                           boolean writeBehind,
+                           long seed) {
+
+    public enum ArrivalCurve {
+        BURST,   // 오픈 시각에 전부 도착
+        RAMP,    // durationMs 동안 도착률이 0에서 선형 증가
+        POISSON  // durationMs 동안 일정한 평균 도착률 (지수 분포 간격)
+    }
+
+    public static LoadScenario fromSystemProperties() {
+        return new LoadScenario(
+                intProperty("load.lectures", 50),
+                intProperty("load.capacity", 30),
+                intProperty("load.students", 5000),
+                intProperty("load.attempts-per-student", 2),
+                Double.parseDouble(System.getProperty("load.zipf-exponent", "1.0")),
+                ArrivalCurve.valueOf(System.getProperty("load.arrival", "BURST").toUpperCase()),
+                Long.parseLong(System.getProperty("load.duration-ms", "5000")),
+                intProperty("load.concurrency", 200),
+                intProperty("load.max-retries", 3),
+                Arrays.stream(System.getProperty("load.strategies", "PESSIMISTIC,OPTIMISTIC,CONDITIONAL_UPDATE,SHARDED_COUNTER,DISTRIBUTED_LOCK").split(","))
+                        .map(String::trim)
+                        .map(EnrollmentStrategyType::valueOf)
+                        .toList(),
+                Boolean.parseBoolean(System.getProperty("load.write-behind", "false")),
+                Long.parseLong(System.getProperty("load.seed", "42")));
+    }
+
+    public int totalRequests() {
+        return students * attemptsPerStudent;
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
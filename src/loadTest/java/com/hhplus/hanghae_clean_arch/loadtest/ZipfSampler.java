@@ -0,0 +1,30 @@
+package com.hhplus.hanghae_clean_arch.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 순위 k(0부터)가 1/(k+1)^s 에 비례하는 확률로 뽑히는 Zipf 분포 샘플러 (누적 분포 이진 탐색)
+ */
+class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int size, double exponent) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key별 처리 결과 저장소 (크기 제한 + 만료).
+ * 같은 키의 재요청은 DB를 거치지 않고 처음 결과(성공 또는 거절 예외)를 그대로 돌려주며,
+ * 동시에 들어온 같은 키의 요청은 처음 요청의 처리가 끝날 때까지 기다렸다가 같은 결과를 받는다.
+ * 혼잡(429), 대기열 토큰 없음 등 다시 시도할 수 있는 실패는 저장하지 않아 재시도가 다시 처리될 수 있다.
+ */
+@Component
+public class IdempotencyKeyStore {
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyKeyStore(@Value("${lecture.idempotency.maximum-size:100000}") long maximumSize,
+                               @Value("${lecture.idempotency.ttl-seconds:600}") long ttlSeconds) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 키에 대한 첫 요청이면 action을 실행해 결과를 저장하고, 이미 있으면 저장된(또는 진행 중인) 결과를 반환한다.
+     * fingerprint는 같은 키가 다른 요청 내용에 재사용되었는지 확인하는 데 쓴다.
+     */
+    public <T> T execute(String key, String fingerprint, Supplier<T> action) {
+        Entry created = new Entry(fingerprint);
+        Entry entry = entries.asMap().putIfAbsent(key, created);
+        if (entry == null) {
+            return run(key, created, action);
+        }
+        if (!Objects.equals(entry.fingerprint, fingerprint)) {
+            throw new IllegalArgumentException("다른 요청에 사용된 Idempotency-Key입니다.");
+        }
+        return replay(entry);
+    }
+
+    private <T> T run(String key, Entry entry, Supplier<T> action) {
+        try {
+            T result = action.get();
+            entry.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            //Error도 완료시켜야 대기 중이던 같은 키 요청이 영원히 기다리지 않음
+            entry.result.completeExceptionally(e);
+            if (!isFinal(e)) {
+                //일시적인 실패는 결과로 남기지 않음 (대기 중이던 같은 키 요청은 같은 실패를 받음)
+                entries.asMap().remove(key, entry);
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T replay(Entry entry) {
+        try {
+            return (T) entry.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    //정원 초과/중복 신청/강의 없음 같은 업무 거절만 결과로 저장 (혼잡/저장 오류 등 나머지는 같은 키로 다시 처리)
+    private boolean isFinal(Throwable e) {
+        return e instanceof LectureFullException
+                || e instanceof DuplicateApplicationException
+                || e.getClass() == IllegalArgumentException.class;
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -1,24 +1,180 @@
 package com.hhplus.hanghae_clean_arch.biz.lecture.application;
 
-import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.BulkEnrollmentItem;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentResultDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ConnectionPermitLimiter;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentConcurrencyStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyResolver;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentWriteBuffer;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureCancellationService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureCommandLanes;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureSeatSlotManager;
 import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureStripedLocks;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ReplicaReadRouter;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SeatReservationManager;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SoldOutRegistry;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.StudentResolver;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import com.hhplus.hanghae_clean_arch.exception.SeatSlottedLectureException;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 @Component
 public class LectureApplicationFacade {
 
     private final LectureService lectureService;
+    private final LectureCancellationService lectureCancellationService;
+    private final SeatReservationManager seatReservationManager;
+    private final EnrollmentWriteBuffer enrollmentWriteBuffer;
+    private final LectureCommandLanes lectureCommandLanes;
+    private final ConnectionPermitLimiter connectionPermitLimiter;
+    private final EnrollmentStrategyResolver enrollmentStrategyResolver;
+    private final StudentResolver studentResolver;
+    private final ReplicaReadRouter replicaReadRouter;
+    private final LectureStripedLocks lectureStripedLocks;
+    private final SoldOutRegistry soldOutRegistry;
+    private final LectureSeatSlotManager lectureSeatSlotManager;
 
-    public LectureApplicationFacade(LectureService lectureService) {
+    public LectureApplicationFacade(LectureService lectureService,
+                                    LectureCancellationService lectureCancellationService,
+                                    SeatReservationManager seatReservationManager,
+                                    EnrollmentWriteBuffer enrollmentWriteBuffer,
+                                    LectureCommandLanes lectureCommandLanes,
+                                    ConnectionPermitLimiter connectionPermitLimiter,
+                                    EnrollmentStrategyResolver enrollmentStrategyResolver,
+                                    StudentResolver studentResolver,
+                                    ReplicaReadRouter replicaReadRouter,
+                                    LectureStripedLocks lectureStripedLocks,
+                                    SoldOutRegistry soldOutRegistry,
+                                    LectureSeatSlotManager lectureSeatSlotManager) {
         this.lectureService = lectureService;
+        this.lectureCancellationService = lectureCancellationService;
+        this.seatReservationManager = seatReservationManager;
+        this.enrollmentWriteBuffer = enrollmentWriteBuffer;
+        this.lectureCommandLanes = lectureCommandLanes;
+        this.connectionPermitLimiter = connectionPermitLimiter;
+        this.enrollmentStrategyResolver = enrollmentStrategyResolver;
+        this.studentResolver = studentResolver;
+        this.replicaReadRouter = replicaReadRouter;
+        this.lectureStripedLocks = lectureStripedLocks;
+        this.soldOutRegistry = soldOutRegistry;
+        this.lectureSeatSlotManager = lectureSeatSlotManager;
     }
 
-    public void applyLecture(Long lectureId, Student student) {
-        lectureService.applyLecture(lectureId, student);
+    public void applyLecture(Long lectureId, Student input) {
+        //매진된 강의는 학생 확인/좌석 선점/DB 조회 없이 바로 거절
+        if (soldOutRegistry.isSoldOut(lectureId)) {
+            throw new LectureFullException();
+        }
+        //학생은 강의 락 밖에서 확정 (외부 id 기준으로 재신청자도 같은 학생)
+        Student student = connectionPermitLimiter.execute(() -> studentResolver.resolve(input));
+        Long studentId = student.getId();
+        //메모리에서 좌석 선점 (정원 초과/중복 신청은 커넥션을 잡기 전에 거절)
+        seatReservationManager.reserve(lectureId, studentId);
+        try {
+            //강의별로 설정된 동시성 제어 방식 (카운터 슬롯 강의는 레인/배치 저장 대신 항상 슬롯으로 신청)
+            EnrollmentConcurrencyStrategy strategy = enrollmentStrategyResolver.resolve(lectureId);
+            boolean slotted = strategy.type() == EnrollmentStrategyType.SHARDED_COUNTER;
+            if (!slotted && lectureCommandLanes.handles(lectureId)) {
+                //인기 강의는 강의별 단일 처리 레인에서 락 없이 순차 처리
+                lectureCommandLanes.applyLecture(lectureId, student);
+            } else if (!slotted && enrollmentWriteBuffer.isEnabled() && studentId != null) {
+                //선점에 성공한 신청은 배치로 모아 저장하고, 배치 커밋까지 제한 시간 동안 대기
+                enrollmentWriteBuffer.submitAndAwait(lectureId, studentId);
+            } else {
+                Runnable apply = () -> connectionPermitLimiter.run(() -> strategy.apply(lectureId, student));
+                if (strategy.contendsOnLectureRow()) {
+                    //같은 강의는 노드 안에서 한 요청씩만 커넥션과 DB 락을 잡도록 대기
+                    lectureStripedLocks.run(lectureId, apply);
+                } else {
+                    apply.run();
+                }
+            }
+        } catch (RuntimeException e) {
+            RuntimeException cause = unwrap(e);
+            if (cause instanceof SeatSlottedLectureException) {
+                //이 노드가 모르는 사이 슬롯으로 전환된 강의: 슬롯 수를 읽어 두고(이후 요청은 바로 슬롯으로) 슬롯 방식으로 다시 신청
+                seatReservationManager.release(lectureId, studentId);
+                connectionPermitLimiter.execute(() -> lectureSeatSlotManager.slotCountOf(lectureId));
+                applyLecture(lectureId, student);
+                return;
+            }
+            if (cause instanceof DuplicateApplicationException && studentId != null) {
+                //취소했던 강의의 재신청이면 기존 신청을 되살림
+                reapplyCanceledLecture(lectureId, studentId);
+                return;
+            }
+            if (cause instanceof LectureFullException) {
+                //메모리보다 DB가 먼저 찼음: 좌석을 돌려주지 않고 DB 기준으로 맞춤
+                soldOutRegistry.markSoldOut(lectureId);
+                connectionPermitLimiter.run(() -> seatReservationManager.rejectByCapacity(lectureId, studentId));
+                throw cause;
+            }
+            seatReservationManager.release(lectureId, studentId);
+            throw cause;
+        }
+        seatReservationManager.confirm(lectureId, studentId);
     }
 
-    public List<Lecture> getCompletedLecturesByUserId(Long userId) { return lectureService.getCompletedLecturesByUserId(userId); }
+    //신청 취소 (대기자가 있으면 승격)
+    public void cancelLecture(Long lectureId, Long studentId) {
+        Long promotedStudentId = lectureStripedLocks.execute(lectureId,
+                () -> connectionPermitLimiter.execute(() -> lectureCancellationService.cancelLecture(lectureId, studentId)));
+        seatReservationManager.cancel(lectureId, studentId, promotedStudentId);
+    }
+
+    //정원이 찬 강의의 대기 등록
+    public void joinWaitlist(Long lectureId, Student input) {
+        connectionPermitLimiter.run(() -> lectureCancellationService.joinWaitlist(lectureId, studentResolver.resolve(input)));
+    }
+
+    //관리자 일괄 신청 (한 트랜잭션으로 처리 후 메모리 좌석 상태에 반영)
+    public BulkEnrollmentResponseDto bulkApplyLectures(List<BulkEnrollmentItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("신청 목록이 비어 있습니다.");
+        }
+        //학생 확정도 일괄 신청 트랜잭션 안에서 처리
+        List<BulkEnrollmentResultDto> results = connectionPermitLimiter.execute(() -> lectureService.bulkApplyLectures(items));
+
+        results.stream()
+                .filter(BulkEnrollmentResultDto::isApplied)
+                .collect(Collectors.groupingBy(BulkEnrollmentResultDto::getLectureId,
+                        Collectors.mapping(BulkEnrollmentResultDto::getStudentId, Collectors.toList())))
+                .forEach(seatReservationManager::markApplied);
+        return new BulkEnrollmentResponseDto(results);
+    }
+
+    public List<CompletedLectureResponseDto> getCompletedLecturesByUserId(Long userId) {
+        //replica에서 조회 (방금 신청/취소한 학생은 primary)
+        return replicaReadRouter.read(userId, () -> lectureService.getCompletedLecturesByUserId(userId));
+    }
+
+    private void reapplyCanceledLecture(Long lectureId, Long studentId) {
+        try {
+            connectionPermitLimiter.run(() -> lectureCancellationService.reapplyCanceledLecture(lectureId, studentId));
+            seatReservationManager.confirm(lectureId, studentId);
+        } catch (LectureFullException e) {
+            connectionPermitLimiter.run(() -> seatReservationManager.rejectByCapacity(lectureId, studentId));
+            throw e;
+        } catch (RuntimeException e) {
+            seatReservationManager.release(lectureId, studentId);
+            throw e;
+        }
+    }
+
+    private RuntimeException unwrap(RuntimeException e) {
+        if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return e;
+    }
 }
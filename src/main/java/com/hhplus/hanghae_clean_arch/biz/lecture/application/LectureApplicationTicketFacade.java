@@ -0,0 +1,147 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.application;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationTicketStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.ApplicationTicketResponseDto;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 신청 접수.
+ * 요청 스레드는 입력만 검증하고 티켓을 발급해 바로 반환하며, 실제 신청은 bounded 워커 풀이 기존 신청 흐름으로 처리한다.
+ * 워커 수로 DB 커넥션 사용량이 제한되고, 대기 큐가 가득 차면 즉시 거절해 부하를 뒤로 밀어낸다.
+ */
+@Component
+public class LectureApplicationTicketFacade {
+
+    private static final Logger log = LoggerFactory.getLogger(LectureApplicationTicketFacade.class);
+    //업무 예외가 아닌 실패는 내부 메시지 대신 이 사유로 응답
+    private static final String UNEXPECTED_REJECTION = "신청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
+    private final LectureApplicationFacade lectureApplicationFacade;
+    private final long retentionMillis;
+    private final ThreadPoolExecutor workers;
+
+    private final Map<String, ApplicationTicket> tickets = new ConcurrentHashMap<>();
+
+    public LectureApplicationTicketFacade(LectureApplicationFacade lectureApplicationFacade,
+                                          @Value("${lecture.async-apply.workers:20}") int workerCount,
+                                          @Value("${lecture.async-apply.queue-capacity:10000}") int queueCapacity,
+                                          @Value("${lecture.async-apply.retention-seconds:300}") long retentionSeconds,
+                                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.lectureApplicationFacade = lectureApplicationFacade;
+        this.retentionMillis = retentionSeconds * 1000;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                newThreadFactory(virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    //신청 접수 (티켓 발급 후 즉시 반환)
+    public ApplicationTicketResponseDto submit(Long lectureId, Student student) {
+        if (lectureId == null) {
+            throw new IllegalArgumentException("강의 ID가 필요합니다.");
+        }
+        if (student.getId() == null && student.getExternalId() == null
+                && (student.getName() == null || student.getName().isBlank())) {
+            throw new IllegalArgumentException("학생 정보가 필요합니다.");
+        }
+
+        ApplicationTicket ticket = new ApplicationTicket(UUID.randomUUID().toString(), lectureId);
+        tickets.put(ticket.id, ticket);
+        try {
+            workers.execute(() -> process(ticket, student));
+        } catch (RejectedExecutionException e) {
+            tickets.remove(ticket.id);
+            throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return toResponse(ticket);
+    }
+
+    //티켓 처리 결과 조회
+    public ApplicationTicketResponseDto getTicket(String ticketId) {
+        ApplicationTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new IllegalArgumentException("신청 티켓을 찾을 수 없습니다.");
+        }
+        return toResponse(ticket);
+    }
+
+    //처리가 끝난 티켓은 보관 기간이 지나면 정리
+    @Scheduled(fixedDelayString = "${lecture.async-apply.cleanup-ms:10000}")
+    public void cleanUp() {
+        long threshold = System.currentTimeMillis() - retentionMillis;
+        tickets.values().removeIf(ticket -> ticket.finishedAt != 0 && ticket.finishedAt < threshold);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private void process(ApplicationTicket ticket, Student student) {
+        try {
+            lectureApplicationFacade.applyLecture(ticket.lectureId, student);
+            ticket.finish(ApplicationTicketStatus.APPLIED, null);
+        } catch (RuntimeException e) {
+            ticket.finish(ApplicationTicketStatus.REJECTED, toReason(ticket, e));
+        }
+    }
+
+    //정원 초과/중복 신청/혼잡/입력 검증처럼 사용자에게 보여주려고 만든 메시지만 그대로 노출 (SQL, 내부 상태 메시지 노출 방지)
+    private String toReason(ApplicationTicket ticket, RuntimeException e) {
+        if (e instanceof LectureFullException || e instanceof DuplicateApplicationException
+                || e instanceof LectureBusyException || e.getClass() == IllegalArgumentException.class) {
+            return e.getMessage();
+        }
+        log.error("신청 티켓 처리 실패 ticketId={}, lectureId={}", ticket.id, ticket.lectureId, e);
+        return UNEXPECTED_REJECTION;
+    }
+
+    private ApplicationTicketResponseDto toResponse(ApplicationTicket ticket) {
+        return new ApplicationTicketResponseDto(ticket.id, ticket.lectureId, ticket.status, ticket.reason);
+    }
+
+    private ThreadFactory newThreadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("lecture-apply-worker-", 0).factory();
+        }
+        return Thread.ofPlatform().name("lecture-apply-worker-", 0).daemon(true).factory();
+    }
+
+    private static class ApplicationTicket {
+        private final String id;
+        private final Long lectureId;
+        private volatile ApplicationTicketStatus status = ApplicationTicketStatus.PENDING;
+        private volatile String reason;
+        private volatile long finishedAt;
+
+        private ApplicationTicket(String id, Long lectureId) {
+            this.id = id;
+            this.lectureId = lectureId;
+        }
+
+        //사유를 먼저 기록해야 상태를 본 조회가 사유를 놓치지 않음
+        private void finish(ApplicationTicketStatus status, String reason) {
+            this.reason = reason;
+            this.finishedAt = System.currentTimeMillis();
+            this.status = status;
+        }
+    }
+}
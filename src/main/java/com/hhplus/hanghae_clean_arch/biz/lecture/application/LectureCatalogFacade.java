@@ -0,0 +1,40 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.application;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureCatalogResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureCatalog;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.RemainingSeatsStream;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+@Component
+public class LectureCatalogFacade {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final LectureCatalog lectureCatalog;
+    private final RemainingSeatsStream remainingSeatsStream;
+
+    public LectureCatalogFacade(LectureCatalog lectureCatalog, RemainingSeatsStream remainingSeatsStream) {
+        this.lectureCatalog = lectureCatalog;
+        this.remainingSeatsStream = remainingSeatsStream;
+    }
+
+    //DB 조회 없이 메모리 스냅샷에서 목록 조회
+    public LectureCatalogResponseDto getCatalog(LocalDateTime from, LocalDateTime to, boolean availableOnly,
+                                                LocalDateTime cursorDate, Long cursorId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        return lectureCatalog.find(from, to, availableOnly, cursorDate, cursorId, size);
+    }
+
+    //잔여 좌석 실시간 구독
+    public SseEmitter subscribeRemainingSeats(Long lectureId) {
+        return remainingSeatsStream.subscribe(lectureId);
+    }
+}
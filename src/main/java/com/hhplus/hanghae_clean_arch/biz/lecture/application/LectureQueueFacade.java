@@ -0,0 +1,28 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.application;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.QueueTicketResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.AdmissionQueueManager;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LectureQueueFacade {
+
+    private final AdmissionQueueManager admissionQueueManager;
+
+    public LectureQueueFacade(AdmissionQueueManager admissionQueueManager) {
+        this.admissionQueueManager = admissionQueueManager;
+    }
+
+    public QueueTicketResponseDto enter(Long lectureId) {
+        return admissionQueueManager.enter(lectureId);
+    }
+
+    public QueueTicketResponseDto getStatus(String token) {
+        return admissionQueueManager.status(token);
+    }
+
+    //대기열 운영 중이면 입장 허가된 토큰을 소모해야 신청 가능
+    public void consumeAdmission(String token, Long lectureId) {
+        admissionQueueManager.consume(token, lectureId);
+    }
+}
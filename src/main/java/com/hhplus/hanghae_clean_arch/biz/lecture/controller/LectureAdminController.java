@@ -0,0 +1,38 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.controller;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.BulkEnrollmentItem;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentRequestDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentResponseDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/lecture")
+public class LectureAdminController {
+
+    private final LectureApplicationFacade lectureApplicationFacade;
+
+    public LectureAdminController(LectureApplicationFacade lectureApplicationFacade) {
+        this.lectureApplicationFacade = lectureApplicationFacade;
+    }
+
+    //일괄 신청 (항목별 결과 반환)
+    @PostMapping("/bulk-enroll")
+    public ResponseEntity<BulkEnrollmentResponseDto> bulkEnroll(@RequestBody BulkEnrollmentRequestDto requestDto) {
+        List<BulkEnrollmentItem> items = requestDto.getEnrollments() == null ? List.of() : requestDto.getEnrollments().stream()
+                .map(enrollment -> {
+                    Student student = new Student();
+                    student.setId(enrollment.getStudentId());
+                    student.setName(enrollment.getStudentName());
+                    student.setExternalId(enrollment.getStudentExternalId());
+                    return new BulkEnrollmentItem(enrollment.getLectureId(), student);
+                })
+                .toList();
+
+        return ResponseEntity.ok(lectureApplicationFacade.bulkApplyLectures(items));
+    }
+}
@@ -0,0 +1,40 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.controller;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureCatalogFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureCatalogResponseDto;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/lecture")
+public class LectureCatalogController {
+
+    private final LectureCatalogFacade lectureCatalogFacade;
+
+    public LectureCatalogController(LectureCatalogFacade lectureCatalogFacade) {
+        this.lectureCatalogFacade = lectureCatalogFacade;
+    }
+
+    //강의 목록 조회 ((date, id) keyset 페이지네이션, 잔여 좌석은 주기적으로 갱신되는 스냅샷 기준)
+    @GetMapping("/catalog")
+    public ResponseEntity<LectureCatalogResponseDto> getCatalog(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean availableOnly,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(lectureCatalogFacade.getCatalog(from, to, availableOnly, cursorDate, cursorId, size));
+    }
+
+    //잔여 좌석 실시간 스트림 (SSE, 변경이 있을 때만 주기당 최대 한 번 발행)
+    @GetMapping(value = "/{lectureId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRemainingSeats(@PathVariable Long lectureId) {
+        return lectureCatalogFacade.subscribeRemainingSeats(lectureId);
+    }
+}
@@ -1,8 +1,12 @@
 package com.hhplus.hanghae_clean_arch.biz.lecture.controller;
 
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.IdempotencyKeyStore;
 import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationFacade;
-import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationTicketFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureQueueFacade;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.ApplicationTicketResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto;
 import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureRequestDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -15,24 +19,84 @@ import java.util.List;
 public class LectureController {
 
     private final LectureApplicationFacade lectureApplicationFacade;
+    private final LectureApplicationTicketFacade lectureApplicationTicketFacade;
+    private final LectureQueueFacade lectureQueueFacade;
+    private final IdempotencyKeyStore idempotencyKeyStore;
 
-    public LectureController(LectureApplicationFacade lectureApplicationFacade) {
+    public LectureController(LectureApplicationFacade lectureApplicationFacade,
+                             LectureApplicationTicketFacade lectureApplicationTicketFacade,
+                             LectureQueueFacade lectureQueueFacade,
+                             IdempotencyKeyStore idempotencyKeyStore) {
         this.lectureApplicationFacade = lectureApplicationFacade;
+        this.lectureApplicationTicketFacade = lectureApplicationTicketFacade;
+        this.lectureQueueFacade = lectureQueueFacade;
+        this.idempotencyKeyStore = idempotencyKeyStore;
     }
 
+    //Idempotency-Key가 있으면 같은 키의 재요청에 처음 결과를 그대로 반환
     @PostMapping("/apply")
-    public ResponseEntity<String> applyLecture(@RequestBody LectureRequestDto requestDto) {
-        Student student = new Student();
-        student.setId(requestDto.getStudentId());
-        student.setName(requestDto.getStudentName());
+    public ResponseEntity<String> applyLecture(@RequestBody LectureRequestDto requestDto,
+                                               @RequestHeader(value = "Queue-Token", required = false) String queueToken,
+                                               @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return apply(requestDto, queueToken);
+        }
+        return idempotencyKeyStore.execute(idempotencyKey, fingerprint(requestDto), () -> apply(requestDto, queueToken));
+    }
 
-        lectureApplicationFacade.applyLecture(requestDto.getLectureId(), student);
-        return ResponseEntity.ok("신청 완료");
+    //비동기 신청 (202 + 티켓 발급, 결과는 티켓으로 조회)
+    @PostMapping("/apply/async")
+    public ResponseEntity<ApplicationTicketResponseDto> applyLectureAsync(@RequestBody LectureRequestDto requestDto,
+                                                                          @RequestHeader(value = "Queue-Token", required = false) String queueToken) {
+        lectureQueueFacade.consumeAdmission(queueToken, requestDto.getLectureId());
+
+        ApplicationTicketResponseDto ticket = lectureApplicationTicketFacade.submit(requestDto.getLectureId(), toStudent(requestDto));
+        return ResponseEntity.accepted().body(ticket);
+    }
+
+    @GetMapping("/apply/tickets/{ticketId}")
+    public ResponseEntity<ApplicationTicketResponseDto> getApplicationTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(lectureApplicationTicketFacade.getTicket(ticketId));
+    }
+
+    //신청 취소 (대기자가 있으면 바로 승격)
+    @PostMapping("/cancel")
+    public ResponseEntity<String> cancelLecture(@RequestBody LectureRequestDto requestDto) {
+        lectureApplicationFacade.cancelLecture(requestDto.getLectureId(), requestDto.getStudentId());
+        return ResponseEntity.ok("취소 완료");
+    }
+
+    //정원이 찬 강의의 대기 등록 (취소가 생기면 등록 순서대로 승격)
+    @PostMapping("/waitlist")
+    public ResponseEntity<String> joinWaitlist(@RequestBody LectureRequestDto requestDto) {
+        lectureApplicationFacade.joinWaitlist(requestDto.getLectureId(), toStudent(requestDto));
+        return ResponseEntity.ok("대기 등록 완료");
     }
 
     @GetMapping("/completed/{userId}")
-    public ResponseEntity<List<Lecture>> getCompletedLectures(@PathVariable Long userId) {
-        List<Lecture> completedLectures = lectureApplicationFacade.getCompletedLecturesByUserId(userId);
+    public ResponseEntity<List<CompletedLectureResponseDto>> getCompletedLectures(@PathVariable Long userId) {
+        List<CompletedLectureResponseDto> completedLectures = lectureApplicationFacade.getCompletedLecturesByUserId(userId);
         return ResponseEntity.ok(completedLectures);
     }
+
+    private ResponseEntity<String> apply(LectureRequestDto requestDto, String queueToken) {
+        lectureQueueFacade.consumeAdmission(queueToken, requestDto.getLectureId());
+
+        lectureApplicationFacade.applyLecture(requestDto.getLectureId(), toStudent(requestDto));
+        return ResponseEntity.ok("신청 완료");
+    }
+
+    //요청 본문만으로 비교 (Queue-Token은 한 번 쓰면 소멸하는 입장권이라 재시도마다 새로 받을 수 있으므로 제외)
+    private String fingerprint(LectureRequestDto requestDto) {
+        return requestDto.getLectureId() + ":" + requestDto.getStudentId() + ":" + requestDto.getStudentName()
+                + ":" + requestDto.getStudentExternalId();
+    }
+
+    private Student toStudent(LectureRequestDto requestDto) {
+        Student student = new Student();
+        student.setId(requestDto.getStudentId());
+        student.setName(requestDto.getStudentName());
+        student.setExternalId(requestDto.getStudentExternalId());
+        return student;
+    }
 }
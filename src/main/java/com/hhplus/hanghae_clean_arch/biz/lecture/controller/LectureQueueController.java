@@ -0,0 +1,29 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.controller;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureQueueFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.QueueTicketResponseDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/lecture")
+public class LectureQueueController {
+
+    private final LectureQueueFacade lectureQueueFacade;
+
+    public LectureQueueController(LectureQueueFacade lectureQueueFacade) {
+        this.lectureQueueFacade = lectureQueueFacade;
+    }
+
+    //대기열 진입 (토큰과 대기 순번 발급)
+    @PostMapping("/{lectureId}/queue")
+    public ResponseEntity<QueueTicketResponseDto> enterQueue(@PathVariable Long lectureId) {
+        return ResponseEntity.ok(lectureQueueFacade.enter(lectureId));
+    }
+
+    //대기 상태 조회 (ADMITTED가 되면 Queue-Token 헤더로 신청)
+    @GetMapping("/queue/{token}")
+    public ResponseEntity<QueueTicketResponseDto> getQueueStatus(@PathVariable String token) {
+        return ResponseEntity.ok(lectureQueueFacade.getStatus(token));
+    }
+}
@@ -0,0 +1,7 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+public enum ApplicationTicketStatus {
+    PENDING,   // 처리 대기 중
+    APPLIED,   // 신청 완료
+    REJECTED   // 신청 거절 (사유 포함)
+}
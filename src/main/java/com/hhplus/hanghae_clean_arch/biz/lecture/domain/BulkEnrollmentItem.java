@@ -0,0 +1,7 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+/**
+ * 일괄 신청의 한 건 (강의, 학생)
+ */
+public record BulkEnrollmentItem(Long lectureId, Student student) {
+}
@@ -0,0 +1,36 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청 상태 변경 이벤트 outbox. 신청/취소 트랜잭션 안에서 함께 저장되고, 릴레이가 발행한 뒤 삭제한다.
+ * 쓰기 비용을 줄이기 위해 PK 외 인덱스나 외래 키를 두지 않는다 (저장은 EnrollmentOutboxJdbcRepository가 JDBC로 처리).
+ */
+@Entity
+@Table(name = "enrollment_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EnrollmentOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long lectureId;
+
+    //강의 안에서의 발행 순서 (EnrollmentOutboxSequence로 1부터 빈틈 없이 발급)
+    private long sequenceNo;
+
+    private Long studentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private LectureEnrollmentChangedEvent.ChangeType changeType;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,25 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 강의별 outbox 발행 순서 카운터 (EnrollmentOutboxJdbcRepository가 JDBC로 갱신).
+ * outbox를 저장하는 트랜잭션이 커밋까지 이 행을 잠그므로, 같은 강의의 이벤트는 sequence 순서대로 커밋되고
+ * 롤백되면 카운터도 함께 되돌아가 빈 번호가 생기지 않는다.
+ */
+@Entity
+@Table(name = "enrollment_outbox_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EnrollmentOutboxSequence {
+
+    @Id
+    private Long lectureId;
+
+    private long lastSequence;
+}
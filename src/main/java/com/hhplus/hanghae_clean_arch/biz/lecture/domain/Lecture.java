@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -24,6 +25,14 @@ public class Lecture {
     private int currentEnrollment;
     private LocalDateTime date;
 
+    //마지막으로 신청 인원을 갱신한 분산 락의 fencing token (이보다 작은 token의 쓰기는 거절)
+    @ColumnDefault("0")
+    private long lockFence;
+
+    //카운터 슬롯(LectureSeatSlot)으로 신청 인원을 관리하는 강의 (슬롯 생성 시 표시되며, 이후 currentEnrollment는 갱신하지 않음)
+    @ColumnDefault("false")
+    private boolean seatSlotted;
+
     public Lecture(String title, String instructor, int capacity, LocalDateTime date) {
         this.title = title;
         this.instructor = instructor;
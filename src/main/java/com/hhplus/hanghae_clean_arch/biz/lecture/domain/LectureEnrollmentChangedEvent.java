@@ -0,0 +1,13 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+/**
+ * 학생의 강의 신청 상태가 바뀌었을 때 발행되는 이벤트
+ */
+public record LectureEnrollmentChangedEvent(Long lectureId, Long studentId, ChangeType changeType) {
+
+    public enum ChangeType {
+        APPLIED,   // 신청 (재신청 포함)
+        CANCELED,  // 신청 취소
+        PROMOTED   // 대기자 승격으로 신청
+    }
+}
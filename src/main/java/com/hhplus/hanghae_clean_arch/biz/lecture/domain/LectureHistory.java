@@ -7,19 +7,26 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = LectureHistory.UK_LECTURE_STUDENT, columnNames = {"lecture_id", "student_id"}),
+        indexes = @Index(name = "idx_lecture_history_student_status", columnList = "student_id, status")
+)
 @Setter
 @Getter
 public class LectureHistory {
 
+    //같은 강의에 같은 학생은 한 번만 신청 가능 (중복 신청 판별에 사용)
+    public static final String UK_LECTURE_STUDENT = "uk_lecture_history_lecture_student";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id")
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lecture_id")
     private Lecture lecture;
 
@@ -0,0 +1,32 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강의별 분산 락 lease와 fencing token 카운터 (LectureLockLeaseJdbcRepository가 JDBC로 갱신).
+ * owner가 비었거나 expires_at이 지난 lease는 다른 노드가 가져갈 수 있으며, 가져갈 때마다 fencing_token이 1씩 증가한다.
+ */
+@Entity
+@Table(name = "lecture_lock_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LectureLockLease {
+
+    @Id
+    private Long lectureId;
+
+    @Column(length = 64)
+    private String owner;
+
+    private long fencingToken;
+
+    private LocalDateTime expiresAt;
+}
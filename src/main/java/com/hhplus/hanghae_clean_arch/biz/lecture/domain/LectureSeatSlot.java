@@ -0,0 +1,43 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 강의 신청 인원을 나눠 담는 카운터 슬롯.
+ * 슬롯마다 정원의 일부(capacity)를 나눠 가지며, 한 강의의 슬롯 capacity 합은 항상 강의 정원과 같다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_lecture_seat_slot_lecture_slot", columnNames = {"lecture_id", "slot_no"}))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LectureSeatSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lecture_id")
+    private Lecture lecture;
+
+    private int slotNo;
+    private int capacity;
+    private int enrolled;
+
+    public LectureSeatSlot(Lecture lecture, int slotNo, int capacity, int enrolled) {
+        this.lecture = lecture;
+        this.slotNo = slotNo;
+        this.capacity = capacity;
+        this.enrolled = enrolled;
+    }
+
+    //이 슬롯에서 더 받을 수 있는 인원
+    public int getHeadroom() {
+        return Math.max(capacity - enrolled, 0);
+    }
+}
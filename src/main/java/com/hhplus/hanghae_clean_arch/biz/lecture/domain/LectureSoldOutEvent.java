@@ -0,0 +1,7 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+/**
+ * 신청으로 강의의 마지막 좌석이 채워졌을 때 발행되는 이벤트
+ */
+public record LectureSoldOutEvent(Long lectureId) {
+}
@@ -0,0 +1,44 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강의별 대기자. 승격 대상은 (lecture_id, id) 인덱스의 맨 앞 한 건이라 신청 내역을 훑지 않고 바로 찾는다.
+ */
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = LectureWaitlist.UK_LECTURE_STUDENT, columnNames = {"lecture_id", "student_id"}),
+        indexes = @Index(name = "idx_lecture_waitlist_lecture_id", columnList = "lecture_id, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LectureWaitlist {
+
+    //같은 강의에 같은 학생은 한 번만 대기 가능
+    public static final String UK_LECTURE_STUDENT = "uk_lecture_waitlist_lecture_student";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lecture_id")
+    private Lecture lecture;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id")
+    private Student student;
+
+    private LocalDateTime createdAt;
+
+    public LectureWaitlist(Lecture lecture, Student student, LocalDateTime createdAt) {
+        this.lecture = lecture;
+        this.student = student;
+        this.createdAt = createdAt;
+    }
+}
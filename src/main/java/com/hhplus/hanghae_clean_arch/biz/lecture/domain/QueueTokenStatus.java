@@ -0,0 +1,9 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.domain;
+
+public enum QueueTokenStatus {
+    WAITING,   // 입장 대기
+    ADMITTED,  // 입장 허가 (신청 가능)
+    USED,      // 신청에 사용됨
+    EXPIRED,   // 입장 허가 후 제한 시간 내 미사용
+    CLOSED     // 정원 마감으로 대기열 종료
+}
@@ -4,10 +4,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_student_external_id", columnNames = "external_id"))
 @Setter
 @Getter
 public class Student {
@@ -18,4 +21,7 @@ public class Student {
 
     private String name;
 
+    //외부 시스템(로그인 계정 등)의 학생 식별자, 같은 신청자를 같은 학생으로 확정하는 데 사용
+    private String externalId;
+
 }
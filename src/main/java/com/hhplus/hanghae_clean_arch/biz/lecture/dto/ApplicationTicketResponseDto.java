@@ -0,0 +1,33 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationTicketStatus;
+
+public class ApplicationTicketResponseDto {
+    private final String ticketId;
+    private final Long lectureId;
+    private final ApplicationTicketStatus status;
+    private final String reason; // REJECTED일 때만 존재
+
+    public ApplicationTicketResponseDto(String ticketId, Long lectureId, ApplicationTicketStatus status, String reason) {
+        this.ticketId = ticketId;
+        this.lectureId = lectureId;
+        this.status = status;
+        this.reason = reason;
+    }
+
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    public Long getLectureId() {
+        return lectureId;
+    }
+
+    public ApplicationTicketStatus getStatus() {
+        return status;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+import java.util.List;
+
+public class BulkEnrollmentRequestDto {
+    private List<LectureRequestDto> enrollments;
+
+    public BulkEnrollmentRequestDto() {}
+
+    public BulkEnrollmentRequestDto(List<LectureRequestDto> enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    public List<LectureRequestDto> getEnrollments() {
+        return enrollments;
+    }
+
+    public void setEnrollments(List<LectureRequestDto> enrollments) {
+        this.enrollments = enrollments;
+    }
+}
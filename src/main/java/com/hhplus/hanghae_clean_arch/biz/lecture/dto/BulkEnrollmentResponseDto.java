@@ -0,0 +1,27 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+import java.util.List;
+
+public class BulkEnrollmentResponseDto {
+    private final int appliedCount;
+    private final int rejectedCount;
+    private final List<BulkEnrollmentResultDto> results; // 요청 순서와 동일
+
+    public BulkEnrollmentResponseDto(List<BulkEnrollmentResultDto> results) {
+        this.results = results;
+        this.appliedCount = (int) results.stream().filter(BulkEnrollmentResultDto::isApplied).count();
+        this.rejectedCount = results.size() - appliedCount;
+    }
+
+    public int getAppliedCount() {
+        return appliedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public List<BulkEnrollmentResultDto> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+public class BulkEnrollmentResultDto {
+    private final Long lectureId;
+    private final Long studentId;
+    private final boolean applied;
+    private final String reason; // 거절된 경우에만 존재
+
+    public BulkEnrollmentResultDto(Long lectureId, Long studentId, boolean applied, String reason) {
+        this.lectureId = lectureId;
+        this.studentId = studentId;
+        this.applied = applied;
+        this.reason = reason;
+    }
+
+    public static BulkEnrollmentResultDto applied(Long lectureId, Long studentId) {
+        return new BulkEnrollmentResultDto(lectureId, studentId, true, null);
+    }
+
+    public static BulkEnrollmentResultDto rejected(Long lectureId, Long studentId, String reason) {
+        return new BulkEnrollmentResultDto(lectureId, studentId, false, reason);
+    }
+
+    public Long getLectureId() {
+        return lectureId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,42 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청 완료 특강 조회 응답 (조인 한 번으로 조회되는 읽기 전용 projection)
+ */
+public class CompletedLectureResponseDto {
+    private final Long lectureId;
+    private final String title;
+    private final String instructor;
+    private final LocalDateTime date;
+    private final LocalDateTime appliedAt;
+
+    public CompletedLectureResponseDto(Long lectureId, String title, String instructor, LocalDateTime date, LocalDateTime appliedAt) {
+        this.lectureId = lectureId;
+        this.title = title;
+        this.instructor = instructor;
+        this.date = date;
+        this.appliedAt = appliedAt;
+    }
+
+    public Long getLectureId() {
+        return lectureId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getInstructor() {
+        return instructor;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+}
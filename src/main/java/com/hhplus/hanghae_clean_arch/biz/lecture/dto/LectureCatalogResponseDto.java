@@ -0,0 +1,34 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class LectureCatalogResponseDto {
+    private final List<LectureSummaryDto> lectures;
+    private final LocalDateTime nextCursorDate; // 다음 페이지 요청 시 cursorDate로 전달 (마지막 페이지면 null)
+    private final Long nextCursorId;            // 다음 페이지 요청 시 cursorId로 전달 (마지막 페이지면 null)
+    private final LocalDateTime refreshedAt;    // 잔여 좌석 스냅샷 갱신 시각
+
+    public LectureCatalogResponseDto(List<LectureSummaryDto> lectures, LocalDateTime nextCursorDate, Long nextCursorId, LocalDateTime refreshedAt) {
+        this.lectures = lectures;
+        this.nextCursorDate = nextCursorDate;
+        this.nextCursorId = nextCursorId;
+        this.refreshedAt = refreshedAt;
+    }
+
+    public List<LectureSummaryDto> getLectures() {
+        return lectures;
+    }
+
+    public LocalDateTime getNextCursorDate() {
+        return nextCursorDate;
+    }
+
+    public Long getNextCursorId() {
+        return nextCursorId;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+}
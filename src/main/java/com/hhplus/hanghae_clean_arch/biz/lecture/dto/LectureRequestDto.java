@@ -4,6 +4,7 @@ public class LectureRequestDto {
     private Long lectureId;
     private Long studentId;
     private String studentName;
+    private String studentExternalId; // studentId가 없을 때 학생 확정에 사용
 
     public LectureRequestDto() {}
 
@@ -13,6 +14,11 @@ public class LectureRequestDto {
         this.studentName = studentName;
     }
 
+    public LectureRequestDto(Long lectureId, Long studentId, String studentName, String studentExternalId) {
+        this(lectureId, studentId, studentName);
+        this.studentExternalId = studentExternalId;
+    }
+
     public Long getLectureId() {
         return lectureId;
     }
@@ -36,4 +42,12 @@ public class LectureRequestDto {
     public void setStudentName(String studentName) {
         this.studentName = studentName;
     }
+
+    public String getStudentExternalId() {
+        return studentExternalId;
+    }
+
+    public void setStudentExternalId(String studentExternalId) {
+        this.studentExternalId = studentExternalId;
+    }
 }
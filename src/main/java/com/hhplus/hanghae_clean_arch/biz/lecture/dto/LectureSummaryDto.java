@@ -0,0 +1,45 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+import java.time.LocalDateTime;
+
+public class LectureSummaryDto {
+    private final Long lectureId;
+    private final String title;
+    private final String instructor;
+    private final LocalDateTime date;
+    private final int capacity;
+    private final int remainingSeats; // 스냅샷 갱신 시점 기준
+
+    public LectureSummaryDto(Long lectureId, String title, String instructor, LocalDateTime date, int capacity, int remainingSeats) {
+        this.lectureId = lectureId;
+        this.title = title;
+        this.instructor = instructor;
+        this.date = date;
+        this.capacity = capacity;
+        this.remainingSeats = remainingSeats;
+    }
+
+    public Long getLectureId() {
+        return lectureId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getInstructor() {
+        return instructor;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRemainingSeats() {
+        return remainingSeats;
+    }
+}
@@ -0,0 +1,33 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.QueueTokenStatus;
+
+public class QueueTicketResponseDto {
+    private final String token;
+    private final Long lectureId;
+    private final QueueTokenStatus status;
+    private final long position; // 내 앞의 대기 인원 (WAITING일 때만 의미 있음)
+
+    public QueueTicketResponseDto(String token, Long lectureId, QueueTokenStatus status, long position) {
+        this.token = token;
+        this.lectureId = lectureId;
+        this.status = status;
+        this.position = position;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public Long getLectureId() {
+        return lectureId;
+    }
+
+    public QueueTokenStatus getStatus() {
+        return status;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,19 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.dto;
+
+public class RemainingSeatsDto {
+    private final Long lectureId;
+    private final int remainingSeats;
+
+    public RemainingSeatsDto(Long lectureId, int remainingSeats) {
+        this.lectureId = lectureId;
+        this.remainingSeats = remainingSeats;
+    }
+
+    public Long getLectureId() {
+        return lectureId;
+    }
+
+    public int getRemainingSeats() {
+        return remainingSeats;
+    }
+}
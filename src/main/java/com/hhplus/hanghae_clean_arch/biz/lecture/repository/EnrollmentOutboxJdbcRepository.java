@@ -0,0 +1,109 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * outbox 저장/조회/삭제. 트랜잭션당 multi-row INSERT 한 번으로 저장해 락을 잡은 구간이 길어지지 않게 한다.
+ * 저장 전에 강의별 발행 순서(sequence_no)를 이벤트 수만큼 한 번에 발급하며, 여러 강의는 id 순서로 카운터를 잠가 교착을 피한다.
+ */
+@Repository
+public class EnrollmentOutboxJdbcRepository {
+
+    //한 문장에 담는 최대 행 수 (placeholder 한도 내로 유지)
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnrollmentOutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<LectureEnrollmentChangedEvent> events, LocalDateTime occurredAt) {
+        Map<Long, List<LectureEnrollmentChangedEvent>> byLecture = new TreeMap<>();
+        events.forEach(event -> byLecture.computeIfAbsent(event.lectureId(), key -> new ArrayList<>()).add(event));
+
+        List<SequencedEvent> sequenced = new ArrayList<>(events.size());
+        byLecture.forEach((lectureId, lectureEvents) -> {
+            long first = reserveSequences(lectureId, lectureEvents.size()) - lectureEvents.size() + 1;
+            for (int i = 0; i < lectureEvents.size(); i++) {
+                sequenced.add(new SequencedEvent(lectureEvents.get(i), first + i));
+            }
+        });
+
+        for (int from = 0; from < sequenced.size(); from += INSERT_CHUNK_SIZE) {
+            insertChunk(sequenced.subList(from, Math.min(from + INSERT_CHUNK_SIZE, sequenced.size())), occurredAt);
+        }
+    }
+
+    //가장 오래된 이벤트부터 limit건 (id 순)
+    public List<EnrollmentOutboxMessage> findOldest(int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, lecture_id, sequence_no, student_id, change_type, occurred_at FROM enrollment_outbox ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new EnrollmentOutboxMessage(
+                        rs.getLong("id"),
+                        rs.getLong("lecture_id"),
+                        rs.getLong("sequence_no"),
+                        (Long) rs.getObject("student_id", Long.class),
+                        LectureEnrollmentChangedEvent.ChangeType.valueOf(rs.getString("change_type")),
+                        rs.getTimestamp("occurred_at").toLocalDateTime()),
+                limit);
+    }
+
+    public void deleteAllById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.update("DELETE FROM enrollment_outbox WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    //강의 카운터를 count만큼 올리고(커밋까지 행 잠금) 마지막 번호를 반환
+    private long reserveSequences(Long lectureId, int count) {
+        String increase = "UPDATE enrollment_outbox_sequence SET last_sequence = last_sequence + ? WHERE lecture_id = ?";
+        if (jdbcTemplate.update(increase, count, lectureId) == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO enrollment_outbox_sequence (lecture_id, last_sequence) VALUES (?, ?)", lectureId, count);
+                return count;
+            } catch (DuplicateKeyException e) {
+                //동시에 다른 트랜잭션이 먼저 행을 만든 경우
+                jdbcTemplate.update(increase, count, lectureId);
+            }
+        }
+        return jdbcTemplate.queryForObject(
+                "SELECT last_sequence FROM enrollment_outbox_sequence WHERE lecture_id = ?", Long.class, lectureId);
+    }
+
+    private void insertChunk(List<SequencedEvent> events, LocalDateTime occurredAt) {
+        StringBuilder sql = new StringBuilder("INSERT INTO enrollment_outbox (lecture_id, sequence_no, student_id, change_type, occurred_at) VALUES ");
+        List<Object> args = new ArrayList<>(events.size() * 5);
+        Timestamp timestamp = Timestamp.valueOf(occurredAt);
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?, ?)");
+
+            LectureEnrollmentChangedEvent event = events.get(i).event();
+            args.add(event.lectureId());
+            args.add(events.get(i).sequenceNo());
+            args.add(event.studentId());
+            args.add(event.changeType().name());
+            args.add(timestamp);
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private record SequencedEvent(LectureEnrollmentChangedEvent event, long sequenceNo) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox에서 꺼낸 발행 대상 한 건 (id는 소비자 측 중복 제거 키, sequenceNo는 강의 안에서의 변경 순서)
+ */
+public record EnrollmentOutboxMessage(Long id, Long lectureId, long sequenceNo, Long studentId,
+                                      LectureEnrollmentChangedEvent.ChangeType changeType, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,62 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LectureHistory는 IDENTITY 전략이라 Hibernate의 JDBC 배치가 동작하지 않으므로,
+ * 대량 저장은 multi-row INSERT를 직접 실행한다.
+ */
+@Repository
+public class LectureHistoryJdbcRepository {
+
+    //한 문장에 담는 최대 행 수 (placeholder 한도 내로 유지)
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LectureHistoryJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<LectureHistoryRow> rows) {
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            insertChunk(rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size())));
+        }
+    }
+
+    //정원을 넘지 않는 경우에만 신청 인원을 count만큼 증가 (갱신된 행 수 반환, 슬롯 강의는 0)
+    public int increaseEnrollment(Long lectureId, int count) {
+        return jdbcTemplate.update(
+                "UPDATE lecture SET current_enrollment = current_enrollment + ?, version = version + 1 " +
+                        "WHERE id = ? AND current_enrollment + ? <= capacity AND seat_slotted = FALSE",
+                count, lectureId, count);
+    }
+
+    public boolean isSeatSlotted(Long lectureId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT seat_slotted FROM lecture WHERE id = ?", Boolean.class, lectureId));
+    }
+
+    private void insertChunk(List<LectureHistoryRow> rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO lecture_history (lecture_id, student_id, applied_at, status) VALUES ");
+        List<Object> args = new ArrayList<>(rows.size() * 4);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?)");
+
+            LectureHistoryRow row = rows.get(i);
+            args.add(row.lectureId());
+            args.add(row.studentId());
+            args.add(Timestamp.valueOf(row.appliedAt()));
+            args.add(row.status().ordinal());
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
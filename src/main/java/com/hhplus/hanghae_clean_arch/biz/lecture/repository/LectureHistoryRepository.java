@@ -1,14 +1,38 @@
 package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
 
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
-import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureHistory;
-import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface LectureHistoryRepository extends JpaRepository<LectureHistory, Long> {
-    boolean existsByLectureAndStudent(Lecture lecture, Student student);
-    List<LectureHistory> findByStudentIdAndStatus(Long studentId, ApplicationStatus status);
+
+    //신청 내역과 강의를 한 번에 조인해 응답 DTO로 바로 조회 (엔티티 로딩/N+1 없음)
+    @Query("SELECT new com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto(l.id, l.title, l.instructor, l.date, h.appliedAt) " +
+            "FROM LectureHistory h JOIN h.lecture l " +
+            "WHERE h.student.id = :studentId AND h.status = :status " +
+            "ORDER BY h.appliedAt")
+    List<CompletedLectureResponseDto> findCompletedLectures(@Param("studentId") Long studentId, @Param("status") ApplicationStatus status);
+
+    //(lecture_id, student_id) 유니크 인덱스로 단건 조회
+    @Query("SELECT h FROM LectureHistory h WHERE h.lecture.id = :lectureId AND h.student.id = :studentId")
+    Optional<LectureHistory> findByLectureIdAndStudentId(@Param("lectureId") Long lectureId, @Param("studentId") Long studentId);
+
+    //주어진 학생의 신청 기록 (상태와 무관, 신청 중이면 중복이고 취소했으면 기존 행을 되살림)
+    @Query("SELECT h FROM LectureHistory h WHERE h.lecture.id = :lectureId AND h.student.id IN :studentIds")
+    List<LectureHistory> findAllByLectureIdAndStudentIdIn(@Param("lectureId") Long lectureId, @Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT h.student.id FROM LectureHistory h WHERE h.lecture.id = :lectureId AND h.status = :status")
+    List<Long> findStudentIdsByLectureIdAndStatus(@Param("lectureId") Long lectureId, @Param("status") ApplicationStatus status);
+
+    //전체 강의의 신청 학생 (좌석 선점기 기동 시 한 번에 적재)
+    @Query("SELECT new com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureStudentId(h.lecture.id, h.student.id) " +
+            "FROM LectureHistory h WHERE h.status = :status")
+    List<LectureStudentId> findLectureStudentIdsByStatus(@Param("status") ApplicationStatus status);
 }
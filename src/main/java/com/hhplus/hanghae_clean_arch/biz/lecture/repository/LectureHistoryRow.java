@@ -0,0 +1,11 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * JDBC 일괄 저장용 신청 내역 한 건 (엔티티를 거치지 않고 id만 보관)
+ */
+public record LectureHistoryRow(Long lectureId, Long studentId, LocalDateTime appliedAt, ApplicationStatus status) {
+}
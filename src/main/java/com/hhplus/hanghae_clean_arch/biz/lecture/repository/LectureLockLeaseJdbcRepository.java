@@ -0,0 +1,69 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 강의별 lease 획득/해제와 fencing token 발급
+ */
+@Repository
+public class LectureLockLeaseJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LectureLockLeaseJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 비었거나 만료된 lease를 owner로 가져오고 새 fencing token을 반환한다. 다른 노드가 보유 중이면 null.
+     */
+    public Long tryAcquire(Long lectureId, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        int updated = jdbcTemplate.update(
+                "UPDATE lecture_lock_lease SET owner = ?, expires_at = ?, fencing_token = fencing_token + 1 " +
+                        "WHERE lecture_id = ? AND (owner IS NULL OR expires_at < ?)",
+                owner, Timestamp.valueOf(expiresAt), lectureId, Timestamp.valueOf(now));
+        if (updated == 0 && !insert(lectureId, owner, expiresAt)) {
+            return null;
+        }
+        List<Long> tokens = jdbcTemplate.queryForList(
+                "SELECT fencing_token FROM lecture_lock_lease WHERE lecture_id = ? AND owner = ?",
+                Long.class, lectureId, owner);
+        return tokens.isEmpty() ? null : tokens.get(0);
+    }
+
+    //owner가 여전히 보유 중일 때만 해제 (만료 후 다른 노드가 가져간 lease는 건드리지 않음)
+    public void release(Long lectureId, String owner) {
+        jdbcTemplate.update(
+                "UPDATE lecture_lock_lease SET owner = NULL, expires_at = NULL WHERE lecture_id = ? AND owner = ?",
+                lectureId, owner);
+    }
+
+    //lease 없이 fencing token만 발급 (다른 방식으로 배타성을 확보한 경우, 예: GET_LOCK)
+    public long nextFencingToken(Long lectureId) {
+        int updated = jdbcTemplate.update(
+                "UPDATE lecture_lock_lease SET fencing_token = fencing_token + 1 WHERE lecture_id = ?", lectureId);
+        if (updated == 0 && !insert(lectureId, null, null)) {
+            //동시에 다른 요청이 먼저 행을 만든 경우
+            jdbcTemplate.update("UPDATE lecture_lock_lease SET fencing_token = fencing_token + 1 WHERE lecture_id = ?", lectureId);
+        }
+        return jdbcTemplate.queryForObject("SELECT fencing_token FROM lecture_lock_lease WHERE lecture_id = ?", Long.class, lectureId);
+    }
+
+    //강의의 첫 lease 행 생성 (이미 있으면 false)
+    private boolean insert(Long lectureId, String owner, LocalDateTime expiresAt) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO lecture_lock_lease (lecture_id, owner, expires_at, fencing_token) VALUES (?, ?, ?, 1)",
+                    lectureId, owner, expiresAt == null ? null : Timestamp.valueOf(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -4,9 +4,12 @@ import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
@@ -14,8 +17,36 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT l FROM Lecture l WHERE l.id = :id")
     Optional<Lecture> findByIdWithLock(@Param("id") Long id);
-    /*@Lock(LockModeType.OPTIMISTIC)
-    @Query("SELECT l FROM Lecture l WHERE l.id = :lectureId")
-    Optional<Lecture> findByIdWithLock(@Param("lectureId") Long lectureId);*/
+
+    //목록 스냅샷 갱신용 전체 조회 (잠금 없음)
+    List<Lecture> findAllByOrderByDateAscIdAsc();
+
+    //여러 강의를 id 순서로 한 번에 잠금 (락 순서를 고정해 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Lecture l WHERE l.id IN :ids ORDER BY l.id")
+    List<Lecture> findAllByIdWithLock(@Param("ids") Collection<Long> ids);
+
+    //정원 미만일 때만 신청 인원 1 증가 (갱신된 행 수 반환, 0이면 정원 초과, 슬롯 강의 또는 강의 없음)
+    @Modifying
+    @Query("UPDATE Lecture l SET l.currentEnrollment = l.currentEnrollment + 1, l.version = l.version + 1 " +
+            "WHERE l.id = :id AND l.currentEnrollment < l.capacity AND l.seatSlotted = false")
+    int increaseEnrollmentIfAvailable(@Param("id") Long id);
+
+    //정원 미만이고 더 큰 fencing token이 쓰인 적 없을 때만 신청 인원 1 증가 (분산 락 신청, 슬롯 강의 제외)
+    @Modifying
+    @Query("UPDATE Lecture l SET l.currentEnrollment = l.currentEnrollment + 1, l.lockFence = :token, l.version = l.version + 1 " +
+            "WHERE l.id = :id AND l.currentEnrollment < l.capacity AND l.lockFence < :token AND l.seatSlotted = false")
+    int increaseEnrollmentIfFenced(@Param("id") Long id, @Param("token") long token);
+
+    //정원이 찬 강의 id (카운터 슬롯을 쓰는 강의는 LectureSeatSlotRepository에서 따로 조회)
+    @Query("SELECT l.id FROM Lecture l WHERE l.currentEnrollment >= l.capacity " +
+            "AND NOT EXISTS (SELECT s.id FROM LectureSeatSlot s WHERE s.lecture = l)")
+    List<Long> findFullLectureIds();
+
+    //카운터 슬롯으로 전환된 강의인지 (조건부 UPDATE가 0건일 때 원인 확인용)
+    boolean existsByIdAndSeatSlottedTrue(Long id);
+
+    @Query("SELECT l.lockFence FROM Lecture l WHERE l.id = :id")
+    Optional<Long> findLockFenceById(@Param("id") Long id);
 
 }
@@ -0,0 +1,47 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureSeatSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LectureSeatSlotRepository extends JpaRepository<LectureSeatSlot, Long> {
+
+    //슬롯 정원 미만일 때만 1 증가 (갱신된 행 수 반환, 0이면 슬롯 소진)
+    @Modifying
+    @Query("UPDATE LectureSeatSlot s SET s.enrolled = s.enrolled + 1 " +
+            "WHERE s.lecture.id = :lectureId AND s.slotNo = :slotNo AND s.enrolled < s.capacity")
+    int increaseEnrolledIfAvailable(@Param("lectureId") Long lectureId, @Param("slotNo") int slotNo);
+
+    //슬롯 번호 순서로 잠금 (정원 재분배 시 사용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM LectureSeatSlot s WHERE s.lecture.id = :lectureId ORDER BY s.slotNo")
+    List<LectureSeatSlot> findAllByLectureIdWithLock(@Param("lectureId") Long lectureId);
+
+    //여러 강의의 슬롯을 강의 id, 슬롯 번호 순서로 잠금 (일괄 신청)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM LectureSeatSlot s WHERE s.lecture.id IN :lectureIds ORDER BY s.lecture.id, s.slotNo")
+    List<LectureSeatSlot> findAllByLectureIdInWithLock(@Param("lectureIds") Collection<Long> lectureIds);
+
+    @Query("SELECT COUNT(s) FROM LectureSeatSlot s WHERE s.lecture.id = :lectureId")
+    long countByLectureId(@Param("lectureId") Long lectureId);
+
+    //슬롯 합계 (슬롯이 없으면 null)
+    @Query("SELECT SUM(s.enrolled) FROM LectureSeatSlot s WHERE s.lecture.id = :lectureId")
+    Long sumEnrolledByLectureId(@Param("lectureId") Long lectureId);
+
+    //슬롯을 쓰는 전체 강의의 슬롯 합계 (목록 스냅샷 갱신용)
+    @Query("SELECT new com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotSum(s.lecture.id, SUM(s.enrolled)) " +
+            "FROM LectureSeatSlot s GROUP BY s.lecture.id")
+    List<LectureSeatSlotSum> sumEnrolledGroupByLecture();
+
+    //슬롯 합계가 정원에 도달한 강의 id
+    @Query("SELECT l.id FROM LectureSeatSlot s JOIN s.lecture l GROUP BY l.id, l.capacity HAVING SUM(s.enrolled) >= l.capacity")
+    List<Long> findFullLectureIds();
+}
@@ -0,0 +1,7 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+/**
+ * 강의별 카운터 슬롯 신청 인원 합계
+ */
+public record LectureSeatSlotSum(Long lectureId, Long enrolled) {
+}
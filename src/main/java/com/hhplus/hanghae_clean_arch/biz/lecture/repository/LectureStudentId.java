@@ -0,0 +1,7 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+/**
+ * 신청 내역의 강의 id, 학생 id 쌍
+ */
+public record LectureStudentId(Long lectureId, Long studentId) {
+}
@@ -0,0 +1,12 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureWaitlist;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface LectureWaitlistRepository extends JpaRepository<LectureWaitlist, Long> {
+
+    //대기 1순위 (강의를 잠근 상태에서만 호출)
+    Optional<LectureWaitlist> findFirstByLectureIdOrderByIdAsc(Long lectureId);
+}
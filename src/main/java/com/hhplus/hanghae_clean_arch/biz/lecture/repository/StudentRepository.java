@@ -2,6 +2,17 @@ package com.hhplus.hanghae_clean_arch.biz.lecture.repository;
 
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
+
+    @Query("SELECT s.id FROM Student s WHERE s.externalId = :externalId")
+    Optional<Long> findIdByExternalId(@Param("externalId") String externalId);
+
+    List<Student> findAllByExternalIdIn(Collection<String> externalIds);
 }
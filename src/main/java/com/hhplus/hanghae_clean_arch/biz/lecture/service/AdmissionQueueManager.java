@@ -0,0 +1,234 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.QueueTokenStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.QueueTicketResponseDto;
+import com.hhplus.hanghae_clean_arch.exception.AdmissionRequiredException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 신청 오픈 시점의 대기열(가상 로비).
+ * 신청자는 먼저 토큰을 받아 대기하고, 강의별로 주기마다 정해진 수만큼만 입장 허가된다.
+ * 입장 허가 수는 잔여 좌석을 넘지 않으며, 잔여 좌석이 0이 되면 대기열을 바로 닫아 남은 대기자를 종료시킨다.
+ *
+ * - 잔여 좌석은 대기자가 있는 강의만 주기마다 한 번 확인한다. 좌석 선점기를 끈 경우(DB 조회) 진입 시점에는 확인하지 않는다.
+ * - 대기자와 사용 전 입장 허가가 모두 없는 강의의 대기열은 제거한다. (다음 진입 때 새로 생성)
+ */
+@Component
+public class AdmissionQueueManager {
+
+    private final SeatReservationManager seatReservationManager;
+    private final boolean enabled;
+    private final int admitPerTick;
+    private final long admittedTtlMillis;
+    private final long retentionMillis;
+
+    private final Map<String, QueueToken> tokens = new ConcurrentHashMap<>();
+    private final Map<Long, LectureQueue> queues = new ConcurrentHashMap<>();
+
+    public AdmissionQueueManager(SeatReservationManager seatReservationManager,
+                                 @Value("${lecture.queue.enabled:false}") boolean enabled,
+                                 @Value("${lecture.queue.admit-per-second:50}") int admitPerSecond,
+                                 @Value("${lecture.queue.tick-ms:100}") long tickMs,
+                                 @Value("${lecture.queue.admitted-ttl-seconds:30}") long admittedTtlSeconds,
+                                 @Value("${lecture.queue.retention-seconds:300}") long retentionSeconds) {
+        this.seatReservationManager = seatReservationManager;
+        this.enabled = enabled;
+        this.admitPerTick = (int) Math.max(1, admitPerSecond * tickMs / 1000);
+        this.admittedTtlMillis = admittedTtlSeconds * 1000;
+        this.retentionMillis = retentionSeconds * 1000;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    //대기열 진입 (토큰 발급)
+    public QueueTicketResponseDto enter(Long lectureId) {
+        if (!enabled) {
+            throw new IllegalStateException("대기열이 운영 중이 아닙니다.");
+        }
+        //메모리 값으로 바로 거절할 수 있을 때만 확인 (DB 조회가 필요하면 입장 주기에서 확인해 대기열을 닫음)
+        if (seatReservationManager.isEnabled() && seatReservationManager.getRemainingSeats(lectureId) <= 0) {
+            throw new LectureFullException();
+        }
+
+        QueueToken token;
+        while (true) {
+            LectureQueue queue = queues.computeIfAbsent(lectureId, id -> new LectureQueue());
+            //순번과 대기 순서가 어긋나지 않도록 발급과 등록을 함께 처리
+            synchronized (queue) {
+                if (queue.removed) {
+                    //방금 정리된 대기열: 새 대기열로 다시 시도
+                    continue;
+                }
+                if (queue.closed) {
+                    throw new LectureFullException();
+                }
+                token = new QueueToken(UUID.randomUUID().toString(), lectureId, queue, ++queue.issuedSeq);
+                queue.waiting.add(token);
+            }
+            break;
+        }
+        tokens.put(token.value, token);
+        return toResponse(token);
+    }
+
+    //대기 상태 조회 (폴링)
+    public QueueTicketResponseDto status(String tokenValue) {
+        QueueToken token = tokens.get(tokenValue);
+        if (token == null) {
+            throw new IllegalArgumentException("대기열 토큰을 찾을 수 없습니다.");
+        }
+        return toResponse(token);
+    }
+
+    //입장 허가된 토큰만 신청 가능하며, 한 번 사용하면 소멸
+    public void consume(String tokenValue, Long lectureId) {
+        if (!enabled) {
+            return;
+        }
+        QueueToken token = tokenValue == null ? null : tokens.get(tokenValue);
+        if (token == null || !token.lectureId.equals(lectureId)
+                || !token.status.compareAndSet(QueueTokenStatus.ADMITTED, QueueTokenStatus.USED)) {
+            throw new AdmissionRequiredException();
+        }
+        token.finishedAt = System.currentTimeMillis();
+        token.queue.outstanding.decrementAndGet();
+    }
+
+    //주기마다 강의별로 정해진 수만큼 입장 허가
+    @Scheduled(fixedDelayString = "${lecture.queue.tick-ms:100}")
+    public void admit() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        queues.forEach((lectureId, queue) -> admit(lectureId, queue, now));
+    }
+
+    //종료된 토큰은 보관 기간이 지나면 정리
+    @Scheduled(fixedDelayString = "${lecture.queue.cleanup-ms:10000}")
+    public void cleanUp() {
+        long threshold = System.currentTimeMillis() - retentionMillis;
+        tokens.values().removeIf(token -> token.finishedAt != 0 && token.finishedAt < threshold);
+    }
+
+    private void admit(Long lectureId, LectureQueue queue, long now) {
+        expireAdmitted(queue, now);
+
+        if (queue.waiting.isEmpty()) {
+            //입장시킬 대기자가 없으면 잔여 좌석을 확인하지 않음
+            removeIfIdle(lectureId, queue);
+            return;
+        }
+
+        int remaining = seatReservationManager.getRemainingSeats(lectureId);
+        synchronized (queue) {
+            if (remaining <= 0) {
+                close(queue, now);
+                return;
+            }
+            //취소 등으로 좌석이 생기면 다시 진입 가능
+            queue.closed = false;
+        }
+
+        //아직 사용되지 않은 입장 허가까지 포함해 잔여 좌석을 넘지 않도록 제한
+        int quota = Math.min(admitPerTick, remaining - queue.outstanding.get());
+        for (int i = 0; i < quota; i++) {
+            QueueToken token = queue.waiting.poll();
+            if (token == null) {
+                break;
+            }
+            token.admittedAt = now;
+            token.status.set(QueueTokenStatus.ADMITTED);
+            queue.admittedSeq = token.seq;
+            queue.outstanding.incrementAndGet();
+            queue.admitted.add(token);
+        }
+    }
+
+    //대기자도, 사용 전 입장 허가도 없는 대기열 제거 (토큰은 자기 대기열을 들고 있어 상태 조회에 영향 없음)
+    private void removeIfIdle(Long lectureId, LectureQueue queue) {
+        synchronized (queue) {
+            if (!queue.waiting.isEmpty() || !queue.admitted.isEmpty()) {
+                return;
+            }
+            queue.removed = true;
+            queues.remove(lectureId, queue);
+        }
+    }
+
+    //입장 허가 후 제한 시간 내 신청하지 않은 토큰은 만료시키고 자리를 반납
+    private void expireAdmitted(LectureQueue queue, long now) {
+        QueueToken head;
+        while ((head = queue.admitted.peek()) != null) {
+            if (head.status.get() == QueueTokenStatus.ADMITTED) {
+                if (head.admittedAt + admittedTtlMillis > now) {
+                    break;
+                }
+                if (head.status.compareAndSet(QueueTokenStatus.ADMITTED, QueueTokenStatus.EXPIRED)) {
+                    head.finishedAt = now;
+                    queue.outstanding.decrementAndGet();
+                }
+            }
+            queue.admitted.poll();
+        }
+    }
+
+    private void close(LectureQueue queue, long now) {
+        queue.closed = true;
+        QueueToken token;
+        while ((token = queue.waiting.poll()) != null) {
+            token.status.set(QueueTokenStatus.CLOSED);
+            token.finishedAt = now;
+        }
+    }
+
+    private QueueTicketResponseDto toResponse(QueueToken token) {
+        QueueTokenStatus status = token.status.get();
+        long position = 0;
+        if (status == QueueTokenStatus.WAITING) {
+            position = Math.max(token.seq - token.queue.admittedSeq - 1, 0);
+        }
+        return new QueueTicketResponseDto(token.value, token.lectureId, status, position);
+    }
+
+    private static class LectureQueue {
+        private final Queue<QueueToken> waiting = new ConcurrentLinkedQueue<>();
+        private final Queue<QueueToken> admitted = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private long issuedSeq;
+        private volatile long admittedSeq;
+        private volatile boolean closed;
+        //정리되어 더 이상 토큰을 받지 않음 (synchronized 안에서만 읽고 씀)
+        private boolean removed;
+    }
+
+    private static class QueueToken {
+        private final String value;
+        private final Long lectureId;
+        private final LectureQueue queue;
+        private final long seq;
+        private final AtomicReference<QueueTokenStatus> status = new AtomicReference<>(QueueTokenStatus.WAITING);
+        private volatile long admittedAt;
+        private volatile long finishedAt;
+
+        private QueueToken(String value, Long lectureId, LectureQueue queue, long seq) {
+            this.value = value;
+            this.lectureId = lectureId;
+            this.queue = queue;
+            this.seq = seq;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureLockLeaseJdbcRepository;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+/**
+ * MariaDB GET_LOCK 기반 분산 락.
+ * GET_LOCK은 커넥션 단위이므로 락을 보유하는 동안 커넥션 하나를 붙잡고, 그 커넥션이 끊기면 락도 풀린다.
+ * 락 커넥션은 신청 트랜잭션과 같은 풀에서 꺼내면 풀 크기만큼 락을 잡은 요청이 서로의 트랜잭션 커넥션을 기다리며 멈추므로
+ * 작은 전용 풀(lecture.distributed-lock.advisory-pool-size)에서 꺼낸다.
+ * fencing token도 같은 락 커넥션에서 lease 테이블의 강의별 카운터로 발급해, 락을 잡은 요청은 메인 풀 커넥션을 하나만 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "lecture.distributed-lock.provider", havingValue = "advisory")
+public class AdvisoryLectureLockProvider implements LectureLockProvider {
+
+    private final DataSource dataSource;
+
+    public AdvisoryLectureLockProvider(DataSourceProperties dataSourceProperties,
+                                       @Value("${lecture.distributed-lock.advisory-pool-size:10}") int poolSize,
+                                       @Value("${lecture.distributed-lock.wait-ms:3000}") long waitMillis) {
+        HikariDataSource lockDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        lockDataSource.setPoolName("lecture-lock");
+        lockDataSource.setMaximumPoolSize(poolSize);
+        lockDataSource.setMinimumIdle(0);
+        //hikari 최소값은 250ms
+        lockDataSource.setConnectionTimeout(Math.max(250, waitMillis));
+        this.dataSource = lockDataSource;
+    }
+
+    //테스트에서 락 전용 DataSource를 직접 지정
+    AdvisoryLectureLockProvider(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.close();
+        }
+    }
+
+    @Override
+    public LectureLock acquire(Long lectureId, Duration wait) {
+        String name = "lecture:" + lectureId;
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            if (!getLock(connection, name, wait)) {
+                throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            AdvisoryLock lock = new AdvisoryLock(connection, name);
+            try {
+                //락 커넥션(autocommit)에서 바로 발급
+                lock.fencingToken = new LectureLockLeaseJdbcRepository(
+                        new JdbcTemplate(new SingleConnectionDataSource(connection, true))).nextFencingToken(lectureId);
+            } catch (RuntimeException e) {
+                lock.close();
+                throw e;
+            }
+            return lock;
+        } catch (SQLTransientConnectionException e) {
+            //락 전용 풀이 가득 찬 경우
+            closeQuietly(connection);
+            throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException("분산 락을 얻는 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+    }
+
+    private boolean getLock(Connection connection, String name, Duration wait) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, name);
+            statement.setDouble(2, wait.toMillis() / 1000.0);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            //이미 끊긴 커넥션
+        }
+    }
+
+    private class AdvisoryLock implements LectureLock {
+        private final Connection connection;
+        private final String name;
+        private long fencingToken;
+
+        private AdvisoryLock(Connection connection, String name) {
+            this.connection = connection;
+            this.name = name;
+        }
+
+        @Override
+        public long fencingToken() {
+            return fencingToken;
+        }
+
+        @Override
+        public void close() {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                statement.setString(1, name);
+                statement.executeQuery().close();
+            } catch (SQLException ignored) {
+                //커넥션이 끊겼으면 락도 이미 풀림
+            } finally {
+                closeQuietly(connection);
+            }
+        }
+    }
+}
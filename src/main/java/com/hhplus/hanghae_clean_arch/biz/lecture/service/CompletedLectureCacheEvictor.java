@@ -0,0 +1,32 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 신청 상태가 바뀐 학생의 완료 목록 캐시를 커밋 이후 제거해, 본인이 방금 신청한 내역이 바로 보이도록 한다.
+ * 제거 직후의 조회가 primary로 가도록 ReplicaReadRouter의 변경 기록 다음에 실행한다.
+ */
+@Component
+public class CompletedLectureCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public CompletedLectureCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Order(ReplicaReadRouter.MARK_WRITTEN_ORDER + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(LectureEnrollmentChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.COMPLETED_LECTURES);
+        if (cache != null && event.studentId() != null) {
+            cache.evict(event.studentId());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConditionalUpdateEnrollmentStrategy implements EnrollmentConcurrencyStrategy {
+
+    private final LectureService lectureService;
+
+    public ConditionalUpdateEnrollmentStrategy(LectureService lectureService) {
+        this.lectureService = lectureService;
+    }
+
+    @Override
+    public EnrollmentStrategyType type() {
+        return EnrollmentStrategyType.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public void apply(Long lectureId, Student student) {
+        lectureService.applyLectureWithConditionalUpdate(lectureId, student);
+    }
+}
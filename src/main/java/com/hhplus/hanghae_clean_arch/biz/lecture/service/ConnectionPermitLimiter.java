@@ -0,0 +1,60 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * DB 작업 동시 실행 수를 커넥션 풀 크기로 제한한다.
+ * 가상 스레드 모드에서는 요청 스레드 수에 상한이 없어, 제한 없이 두면 모든 요청이 Hikari 대기열로 몰린다.
+ * 허가를 얻지 못한 요청은 커넥션 대기 대신 제한 시간 후 거절한다.
+ */
+@Component
+public class ConnectionPermitLimiter {
+
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public ConnectionPermitLimiter(@Value("${lecture.db-limiter.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+                                   @Value("${lecture.db-limiter.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+                                   @Value("${lecture.db-limiter.acquire-timeout-ms:3000}") long acquireTimeoutMs) {
+        this.enabled = enabled;
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public void run(Runnable task) {
+        execute(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+        acquire();
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new LectureBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LectureBusyException("요청 처리가 중단되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class DistributedLockEnrollmentStrategy implements EnrollmentConcurrencyStrategy {
+
+    private final LectureService lectureService;
+    private final LectureLockProvider lectureLockProvider;
+    private final EnrollmentMetrics enrollmentMetrics;
+    private final Duration waitTime;
+
+    public DistributedLockEnrollmentStrategy(LectureService lectureService,
+                                             LectureLockProvider lectureLockProvider,
+                                             EnrollmentMetrics enrollmentMetrics,
+                                             @Value("${lecture.distributed-lock.wait-ms:3000}") long waitMillis) {
+        this.lectureService = lectureService;
+        this.lectureLockProvider = lectureLockProvider;
+        this.enrollmentMetrics = enrollmentMetrics;
+        this.waitTime = Duration.ofMillis(waitMillis);
+    }
+
+    @Override
+    public EnrollmentStrategyType type() {
+        return EnrollmentStrategyType.DISTRIBUTED_LOCK;
+    }
+
+    @Override
+    public void apply(Long lectureId, Student student) {
+        //노드 간 락은 트랜잭션 밖에서 잡고, 트랜잭션 안에서는 fencing token으로만 검증
+        long lockStart = System.nanoTime();
+        try (LectureLockProvider.LectureLock lock = lectureLockProvider.acquire(lectureId, waitTime)) {
+            enrollmentMetrics.recordLockWait(type(), System.nanoTime() - lockStart);
+            lectureService.applyLectureWithFencing(lectureId, student, lock.fencingToken());
+        }
+    }
+}
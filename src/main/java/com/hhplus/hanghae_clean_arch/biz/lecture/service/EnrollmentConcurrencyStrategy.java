@@ -0,0 +1,18 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+
+/**
+ * 특강 신청 시 정원/신청 인원 갱신의 동시성 제어 방식
+ */
+public interface EnrollmentConcurrencyStrategy {
+
+    EnrollmentStrategyType type();
+
+    void apply(Long lectureId, Student student);
+
+    //같은 강의의 신청이 강의 행 하나를 두고 경합하는지 (경합하면 노드 안에서 먼저 줄 세움, LectureStripedLocks)
+    default boolean contendsOnLectureRow() {
+        return true;
+    }
+}
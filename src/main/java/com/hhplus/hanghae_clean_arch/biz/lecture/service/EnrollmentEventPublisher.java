@@ -0,0 +1,15 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.EnrollmentOutboxMessage;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트를 외부(메시지 브로커 등)로 내보내는 발행기.
+ * 한 번 호출에는 같은 강의의 이벤트만 id 순으로 전달되며, 예외 없이 반환되면 전달 완료로 보고 outbox에서 삭제한다.
+ * 삭제 전에 장애가 나면 다시 전달될 수 있으므로(at-least-once) 소비자는 메시지 id로 중복을 걸러야 한다.
+ */
+public interface EnrollmentEventPublisher {
+
+    void publish(Long lectureId, List<EnrollmentOutboxMessage> messages);
+}
@@ -0,0 +1,102 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 특강 신청 경로 지표 (/actuator/prometheus)
+ *
+ * - enrollment.stage: 단계별 지연 히스토그램 (stage, strategy)
+ *   히스토그램은 태그 조합마다 버킷 수만큼 시계열이 생기므로 강의 태그를 붙이지 않는다.
+ *   duplicate_check는 (lecture_id, student_id) 유니크 INSERT 시간으로 성공/중복 모두 기록하고, history_insert는 성공한 INSERT만 기록한다.
+ * - enrollment.retries: 락 획득 실패/lease 대기/버전 충돌/슬롯 재분배로 다시 시도한 횟수 (strategy, lecture)
+ * - enrollment.rejections: 정원 초과/중복 신청 거절 횟수 (reason, lecture)
+ *
+ * 신청마다 호출되므로 meter는 태그 조합별로 한 번만 등록하고 이후에는 캐시에서 꺼내 쓴다.
+ */
+@Component
+public class EnrollmentMetrics {
+
+    public enum Stage {
+        LOCK_ACQUIRE, DUPLICATE_CHECK, HISTORY_INSERT, COMMIT
+    }
+
+    public enum Rejection {
+        CAPACITY, DUPLICATE
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<StageKey, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<RetryKey, Counter> retryCounters = new ConcurrentHashMap<>();
+    private final Map<RejectionKey, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+    public EnrollmentMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordStage(Stage stage, EnrollmentStrategyType strategy, long nanos) {
+        stageTimers.computeIfAbsent(new StageKey(stage, strategy), key -> Timer.builder("enrollment.stage")
+                        .tag("stage", key.stage().name().toLowerCase())
+                        .tag("strategy", key.strategy().name())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockWait(EnrollmentStrategyType strategy, long nanos) {
+        recordStage(Stage.LOCK_ACQUIRE, strategy, nanos);
+    }
+
+    //현재 트랜잭션의 커밋 소요 시간을 기록 (트랜잭션 밖에서는 무시)
+    public void recordCommit(EnrollmentStrategyType strategy) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStart;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStart = System.nanoTime();
+            }
+
+            @Override
+            public void afterCommit() {
+                recordStage(Stage.COMMIT, strategy, System.nanoTime() - commitStart);
+            }
+        });
+    }
+
+    public void incrementRetry(EnrollmentStrategyType strategy, Long lectureId) {
+        retryCounters.computeIfAbsent(new RetryKey(strategy, lectureId), key -> Counter.builder("enrollment.retries")
+                        .tag("strategy", key.strategy().name())
+                        .tag("lecture", String.valueOf(key.lectureId()))
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void incrementRejection(Rejection reason, Long lectureId) {
+        rejectionCounters.computeIfAbsent(new RejectionKey(reason, lectureId), key -> Counter.builder("enrollment.rejections")
+                        .tag("reason", key.reason().name().toLowerCase())
+                        .tag("lecture", String.valueOf(key.lectureId()))
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private record StageKey(Stage stage, EnrollmentStrategyType strategy) {
+    }
+
+    private record RetryKey(EnrollmentStrategyType strategy, Long lectureId) {
+    }
+
+    private record RejectionKey(Rejection reason, Long lectureId) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.EnrollmentOutboxJdbcRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.EnrollmentOutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * outbox를 id 순으로 배치 단위로 읽어 강의별로 발행하고, 발행된 이벤트만 삭제한다.
+ *
+ * - 순서: 같은 강의의 이벤트는 강의별 sequenceNo 순서로 커밋되므로(EnrollmentOutboxSequence) 강의마다 sequenceNo 순으로 발행하며,
+ *   한 강의의 발행이 실패하면 그 배치에서 해당 강의의 이후 이벤트는 보내지 않고 다음 주기에 처음부터 다시 보낸다.
+ * - at-least-once: 발행 후 삭제 전에 장애가 나면 같은 이벤트가 다시 발행된다.
+ * - 릴레이가 둘 이상 돌면 같은 강의를 서로 다른 순서로 발행할 수 있어 기본값은 꺼 두고,
+ *   인스턴스 하나에서만 켠다 (lecture.outbox.relay-enabled=true).
+ */
+@Component
+public class EnrollmentOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentOutboxRelay.class);
+
+    private final EnrollmentOutboxJdbcRepository enrollmentOutboxJdbcRepository;
+    private final EnrollmentEventPublisher enrollmentEventPublisher;
+    private final int batchSize;
+    private final boolean enabled;
+
+    public EnrollmentOutboxRelay(EnrollmentOutboxJdbcRepository enrollmentOutboxJdbcRepository,
+                                 EnrollmentEventPublisher enrollmentEventPublisher,
+                                 @Value("${lecture.outbox.batch-size:500}") int batchSize,
+                                 @Value("${lecture.outbox.relay-enabled:false}") boolean enabled) {
+        this.enrollmentOutboxJdbcRepository = enrollmentOutboxJdbcRepository;
+        this.enrollmentEventPublisher = enrollmentEventPublisher;
+        this.batchSize = batchSize;
+        this.enabled = enabled;
+    }
+
+    //쌓인 이벤트가 배치 크기보다 적어질 때까지 반복해서 비움
+    @Scheduled(fixedDelayString = "${lecture.outbox.relay-interval-ms:200}")
+    public void drain() {
+        if (!enabled) {
+            return;
+        }
+        while (relayBatch() == batchSize) {
+            //다음 배치
+        }
+    }
+
+    //한 배치를 발행하고 조회된 건수를 반환 (발행 실패한 강의가 있으면 더 비우지 않도록 0 반환)
+    public int relayBatch() {
+        List<EnrollmentOutboxMessage> batch = enrollmentOutboxJdbcRepository.findOldest(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<EnrollmentOutboxMessage>> byLecture = new LinkedHashMap<>();
+        batch.forEach(message -> byLecture.computeIfAbsent(message.lectureId(), key -> new ArrayList<>()).add(message));
+        byLecture.values().forEach(messages -> messages.sort(Comparator.comparingLong(EnrollmentOutboxMessage::sequenceNo)));
+
+        List<Long> published = new ArrayList<>(batch.size());
+        boolean failed = false;
+        for (Map.Entry<Long, List<EnrollmentOutboxMessage>> entry : byLecture.entrySet()) {
+            try {
+                enrollmentEventPublisher.publish(entry.getKey(), entry.getValue());
+                entry.getValue().forEach(message -> published.add(message.id()));
+            } catch (RuntimeException e) {
+                failed = true;
+                log.warn("강의 {} 이벤트 발행 실패, 다음 주기에 다시 발행합니다.", entry.getKey(), e);
+            }
+        }
+
+        enrollmentOutboxJdbcRepository.deleteAllById(published);
+        return failed ? 0 : batch.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.EnrollmentOutboxJdbcRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 신청 상태 변경 이벤트를 같은 트랜잭션의 outbox에 저장한다.
+ * 트랜잭션 안에서 발행된 이벤트는 모아 두었다가 커밋 직전에 INSERT 한 번으로 저장하고, 롤백되면 함께 버려진다.
+ */
+@Component
+public class EnrollmentOutboxWriter {
+
+    private final EnrollmentOutboxJdbcRepository enrollmentOutboxJdbcRepository;
+
+    public EnrollmentOutboxWriter(EnrollmentOutboxJdbcRepository enrollmentOutboxJdbcRepository) {
+        this.enrollmentOutboxJdbcRepository = enrollmentOutboxJdbcRepository;
+    }
+
+    @EventListener
+    public void append(LectureEnrollmentChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enrollmentOutboxJdbcRepository.insertAll(List.of(event), LocalDateTime.now());
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<LectureEnrollmentChangedEvent> pending = (List<LectureEnrollmentChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<LectureEnrollmentChangedEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    enrollmentOutboxJdbcRepository.insertAll(events, LocalDateTime.now());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EnrollmentOutboxWriter.this);
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+}
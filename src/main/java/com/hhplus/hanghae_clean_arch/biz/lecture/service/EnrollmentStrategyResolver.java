@@ -0,0 +1,38 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.config.EnrollmentStrategyProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강의별 설정(lecture.enrollment.lecture-strategies)이 있으면 그 방식을, 없으면 기본 방식(lecture.enrollment.strategy)을 사용
+ * 이미 카운터 슬롯으로 전환된 강의는 설정과 관계없이 SHARDED_COUNTER를 사용 (슬롯 밖에서 인원을 늘리면 정원을 넘음)
+ */
+@Component
+public class EnrollmentStrategyResolver {
+
+    private final Map<EnrollmentStrategyType, EnrollmentConcurrencyStrategy> strategies = new EnumMap<>(EnrollmentStrategyType.class);
+    private final EnrollmentStrategyProperties properties;
+    private final LectureSeatSlotManager lectureSeatSlotManager;
+
+    public EnrollmentStrategyResolver(List<EnrollmentConcurrencyStrategy> strategies, EnrollmentStrategyProperties properties,
+                                      LectureSeatSlotManager lectureSeatSlotManager) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.type(), strategy));
+        this.properties = properties;
+        this.lectureSeatSlotManager = lectureSeatSlotManager;
+    }
+
+    public EnrollmentConcurrencyStrategy resolve(Long lectureId) {
+        EnrollmentStrategyType type = lectureSeatSlotManager.isSlotted(lectureId)
+                ? EnrollmentStrategyType.SHARDED_COUNTER
+                : properties.lectureStrategies().getOrDefault(lectureId, properties.strategy());
+        EnrollmentConcurrencyStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalStateException("지원하지 않는 신청 방식입니다: " + type);
+        }
+        return strategy;
+    }
+}
@@ -0,0 +1,9 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+public enum EnrollmentStrategyType {
+    PESSIMISTIC,        // SELECT ... FOR UPDATE 후 신청
+    OPTIMISTIC,         // 락 없이 조회, @Version 충돌 시 지터 포함 지수 백오프로 재시도
+    CONDITIONAL_UPDATE, // 정원 미만일 때만 증가시키는 단일 UPDATE (조회 후 쓰기 없음)
+    SHARDED_COUNTER,    // 신청 인원을 N개 슬롯으로 나눠 슬롯 단위 조건부 UPDATE (Lecture 행 갱신 없음)
+    DISTRIBUTED_LOCK    // 노드 간 분산 락(LectureLockProvider) 보유 중 fencing token 조건부 UPDATE (row lock은 커밋 직전에만)
+}
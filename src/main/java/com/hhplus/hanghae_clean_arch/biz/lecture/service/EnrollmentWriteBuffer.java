@@ -0,0 +1,243 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryJdbcRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRow;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import com.hhplus.hanghae_clean_arch.exception.SeatSlottedLectureException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좌석 선점에 성공한 신청을 모아 마이크로 배치로 저장하는 write-behind 파이프라인.
+ * 배치 하나는 신청 내역 multi-row INSERT 한 번과 강의별 신청 인원 증가 UPDATE 한 번으로 커밋되며,
+ * 호출자는 자신이 포함된 배치가 커밋될 때 완료되는 future를 받는다.
+ * 등록과 종료는 같은 락으로 묶여, 종료 이후 등록된 신청은 바로 실패하고 종료 전에 등록된 신청은 모두 저장되거나 실패로 완료된다.
+ */
+@Component
+public class EnrollmentWriteBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentWriteBuffer.class);
+
+    private final LectureHistoryJdbcRepository lectureHistoryJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long windowNanos;
+    private final long awaitTimeoutMillis;
+    private final BlockingQueue<PendingWrite> queue;
+    //등록(read)끼리는 막지 않고, 종료(write)는 진행 중인 등록이 끝난 뒤에 running을 내림
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public EnrollmentWriteBuffer(LectureHistoryJdbcRepository lectureHistoryJdbcRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${lecture.write-behind.enabled:false}") boolean enabled,
+                                 @Value("${lecture.write-behind.batch-size:200}") int batchSize,
+                                 @Value("${lecture.write-behind.window-ms:10}") long windowMs,
+                                 @Value("${lecture.write-behind.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${lecture.write-behind.await-timeout-ms:3000}") long awaitTimeoutMillis) {
+        this.lectureHistoryJdbcRepository = lectureHistoryJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runLoop, "enrollment-write-buffer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+
+        //제한 시간 안에 저장하지 못한 신청은 대기 중인 호출자가 멈추지 않도록 실패로 완료
+        PendingWrite left;
+        while ((left = queue.poll()) != null) {
+            left.future.completeExceptionally(new LectureBusyException("신청 처리를 종료하는 중입니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    //신청 한 건을 배치 대기열에 등록 (배치 커밋 시 완료)
+    public CompletableFuture<Void> submit(Long lectureId, Long studentId) {
+        PendingWrite write = new PendingWrite(new LectureHistoryRow(lectureId, studentId, LocalDateTime.now(), ApplicationStatus.APPLIED));
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                write.future.completeExceptionally(new LectureBusyException("신청 처리를 종료하는 중입니다. 잠시 후 다시 시도해주세요."));
+            } else if (!queue.offer(write)) {
+                write.future.completeExceptionally(new LectureBusyException("신청 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+            }
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+        return write.future;
+    }
+
+    /**
+     * 신청을 등록하고 배치 커밋까지 최대 await-timeout-ms 동안 대기한다.
+     * 시간 안에 끝나지 않으면 저장 여부를 알 수 없으므로 신청 내역을 다시 확인하도록 429로 응답한다.
+     * 대기열이 가득 찼거나 종료 중이면 429, 저장 오류는 업무 거절(400)이 아니므로 원래 예외 그대로 전달한다.
+     */
+    public void submitAndAwait(Long lectureId, Long studentId) {
+        try {
+            submit(lectureId, studentId).get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new UndeclaredThrowableException(e.getCause(), "신청 저장 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            throw new LectureBusyException("신청 처리가 지연되고 있습니다. 잠시 후 신청 내역을 확인해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LectureBusyException("신청 처리가 지연되고 있습니다. 잠시 후 신청 내역을 확인해주세요.");
+        }
+    }
+
+    private void runLoop() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        //종료 신호 이후에도 대기열에 남은 신청은 모두 저장
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    //첫 건을 받은 뒤 배치 크기나 시간 창 중 먼저 도달하는 쪽까지 모음
+    private void collect(List<PendingWrite> batch) throws InterruptedException {
+        PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    //Error까지 잡아 어떤 경우에도 future를 완료 (완료되지 않으면 호출자가 대기 시간 끝까지 묶임)
+    private void flush(List<PendingWrite> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            batch.forEach(write -> write.future.complete(null));
+        } catch (Throwable e) {
+            //배치 전체가 실패하면 문제 건만 실패하도록 한 건씩 다시 저장
+            log.warn("신청 배치 저장 실패, 건별 저장으로 재시도합니다. size={}", batch.size(), e);
+            for (PendingWrite write : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(write)));
+                    write.future.complete(null);
+                } catch (DuplicateKeyException duplicate) {
+                    write.future.completeExceptionally(new DuplicateApplicationException());
+                } catch (Throwable single) {
+                    write.future.completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private void write(List<PendingWrite> batch) {
+        List<LectureHistoryRow> rows = new ArrayList<>(batch.size());
+        Map<Long, Integer> countsByLecture = new LinkedHashMap<>();
+        for (PendingWrite write : batch) {
+            rows.add(write.row);
+            countsByLecture.merge(write.row.lectureId(), 1, Integer::sum);
+        }
+
+        lectureHistoryJdbcRepository.insertAll(rows);
+
+        //강의별로 한 번만 증가시키고, 정원을 넘는 배치(또는 슬롯 강의)는 롤백
+        countsByLecture.forEach((lectureId, count) -> {
+            if (lectureHistoryJdbcRepository.increaseEnrollment(lectureId, count) == 0) {
+                throw lectureHistoryJdbcRepository.isSeatSlotted(lectureId) ? new SeatSlottedLectureException() : new LectureFullException();
+            }
+        });
+
+        batch.forEach(write -> eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(write.row.lectureId(), write.row.studentId(),
+                LectureEnrollmentChangedEvent.ChangeType.APPLIED)));
+    }
+
+    private static class PendingWrite {
+        private final LectureHistoryRow row;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingWrite(LectureHistoryRow row) {
+            this.row = row;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.EnrollmentOutboxMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트를 JSON Lines 파일에 이어 쓰는 발행기 (브로커 없이 소비자 연동을 확인할 때 사용).
+ * 디스크에 기록된 뒤에 반환하므로 반환 이후 outbox에서 삭제되어도 이벤트가 유실되지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "lecture.outbox.publisher", havingValue = "file")
+public class FileEnrollmentEventPublisher implements EnrollmentEventPublisher {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileEnrollmentEventPublisher(@Value("${lecture.outbox.file-path:build/outbox/enrollment-events.jsonl}") String path,
+                                        ObjectMapper objectMapper) {
+        this.path = Path.of(path);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(Long lectureId, List<EnrollmentOutboxMessage> messages) {
+        List<String> lines = new ArrayList<>(messages.size());
+        for (EnrollmentOutboxMessage message : messages) {
+            try {
+                lines.add(objectMapper.writeValueAsString(message));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("이벤트를 직렬화할 수 없습니다.", e);
+            }
+        }
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
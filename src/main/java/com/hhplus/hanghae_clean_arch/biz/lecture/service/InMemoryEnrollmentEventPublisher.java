@@ -0,0 +1,41 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.EnrollmentOutboxMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 프로세스 안에 최근 이벤트를 보관하는 발행기 (기본값, 로컬 실행/테스트용 대체 구현)
+ */
+@Component
+@ConditionalOnProperty(name = "lecture.outbox.publisher", havingValue = "memory", matchIfMissing = true)
+public class InMemoryEnrollmentEventPublisher implements EnrollmentEventPublisher {
+
+    private final int retention;
+    private final Deque<EnrollmentOutboxMessage> published = new ArrayDeque<>();
+
+    public InMemoryEnrollmentEventPublisher(@Value("${lecture.outbox.memory-retention:10000}") int retention) {
+        this.retention = retention;
+    }
+
+    @Override
+    public synchronized void publish(Long lectureId, List<EnrollmentOutboxMessage> messages) {
+        for (EnrollmentOutboxMessage message : messages) {
+            published.addLast(message);
+            if (published.size() > retention) {
+                published.removeFirst();
+            }
+        }
+    }
+
+    //보관 중인 이벤트 (발행 순)
+    public synchronized List<EnrollmentOutboxMessage> getPublished() {
+        return new ArrayList<>(published);
+    }
+}
@@ -0,0 +1,91 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureLockLeaseJdbcRepository;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * lease 테이블 기반 분산 락 (기본값, H2 등 GET_LOCK이 없는 DB에서도 동작).
+ * lease는 별도 트랜잭션으로 바로 커밋해 신청 트랜잭션과 무관하게 다른 노드에 보이며, 보유자가 죽으면 lease-ms 후 만료된다.
+ * 노드 간 시계 오차나 긴 GC 멈춤으로 lease가 겹치더라도 늦게 발급된 fencing token만 쓰기에 성공한다.
+ */
+@Component
+@ConditionalOnProperty(name = "lecture.distributed-lock.provider", havingValue = "lease", matchIfMissing = true)
+public class LeaseLectureLockProvider implements LectureLockProvider {
+
+    private static final long MIN_BACKOFF_MS = 5;
+    private static final long MAX_BACKOFF_MS = 50;
+
+    private final LectureLockLeaseJdbcRepository lectureLockLeaseJdbcRepository;
+    private final EnrollmentMetrics enrollmentMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leaseTime;
+
+    public LeaseLectureLockProvider(LectureLockLeaseJdbcRepository lectureLockLeaseJdbcRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    EnrollmentMetrics enrollmentMetrics,
+                                    @Value("${lecture.distributed-lock.lease-ms:5000}") long leaseMillis) {
+        this.lectureLockLeaseJdbcRepository = lectureLockLeaseJdbcRepository;
+        this.enrollmentMetrics = enrollmentMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leaseTime = Duration.ofMillis(leaseMillis);
+    }
+
+    @Override
+    public LectureLock acquire(Long lectureId, Duration wait) {
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + wait.toNanos();
+        long backoffMillis = MIN_BACKOFF_MS;
+        while (true) {
+            Long token = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                return lectureLockLeaseJdbcRepository.tryAcquire(lectureId, owner, now, now.plus(leaseTime));
+            });
+            if (token != null) {
+                return new LeaseLock(lectureId, owner, token);
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            //지터 포함 지수 백오프 후 다시 시도
+            enrollmentMetrics.incrementRetry(EnrollmentStrategyType.DISTRIBUTED_LOCK, lectureId);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(ThreadLocalRandom.current().nextLong(MIN_BACKOFF_MS, backoffMillis + 1)));
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    private class LeaseLock implements LectureLock {
+        private final Long lectureId;
+        private final String owner;
+        private final long fencingToken;
+
+        private LeaseLock(Long lectureId, String owner, long fencingToken) {
+            this.lectureId = lectureId;
+            this.owner = owner;
+            this.fencingToken = fencingToken;
+        }
+
+        @Override
+        public long fencingToken() {
+            return fencingToken;
+        }
+
+        @Override
+        public void close() {
+            transactionTemplate.executeWithoutResult(status -> lectureLockLeaseJdbcRepository.release(lectureId, owner));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureHistory;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureSeatSlot;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureWaitlist;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureWaitlistRepository;
+import com.hhplus.hanghae_clean_arch.exception.ConstraintViolations;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 신청 취소, 대기 등록, 취소했던 신청의 재신청.
+ * 세 작업 모두 강의를 잠근 상태에서 좌석 수를 바꾸며, 카운터 슬롯을 쓰는 강의는 슬롯을 먼저 잠가
+ * 슬롯 → 강의 순서로 락을 잡는 신청 경로와 순서를 맞춘다.
+ */
+@Service
+public class LectureCancellationService {
+
+    private final LectureRepository lectureRepository;
+    private final LectureHistoryRepository lectureHistoryRepository;
+    private final LectureWaitlistRepository lectureWaitlistRepository;
+    private final LectureSeatSlotRepository lectureSeatSlotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollmentMetrics enrollmentMetrics;
+
+    public LectureCancellationService(LectureRepository lectureRepository, LectureHistoryRepository lectureHistoryRepository,
+                                      LectureWaitlistRepository lectureWaitlistRepository, LectureSeatSlotRepository lectureSeatSlotRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      EnrollmentMetrics enrollmentMetrics) {
+        this.lectureRepository = lectureRepository;
+        this.lectureHistoryRepository = lectureHistoryRepository;
+        this.lectureWaitlistRepository = lectureWaitlistRepository;
+        this.lectureSeatSlotRepository = lectureSeatSlotRepository;
+        this.eventPublisher = eventPublisher;
+        this.enrollmentMetrics = enrollmentMetrics;
+    }
+
+    /**
+     * 신청 취소. 대기자가 있으면 같은 트랜잭션에서 맨 앞 대기자를 승격시켜 좌석이 비는 순간이 없도록 한다.
+     * 승격된 학생 id를 반환하며, 대기자가 없으면 좌석을 반납하고 null을 반환한다.
+     */
+    @Transactional
+    public Long cancelLecture(Long lectureId, Long studentId) {
+        List<LectureSeatSlot> slots = lectureSeatSlotRepository.findAllByLectureIdWithLock(lectureId);
+        Lecture lecture = lockLecture(lectureId);
+
+        LectureHistory history = lectureHistoryRepository.findByLectureIdAndStudentId(lectureId, studentId)
+                .filter(found -> found.getStatus() == ApplicationStatus.APPLIED)
+                .orElseThrow(() -> new IllegalArgumentException("취소할 신청 내역이 없습니다."));
+        history.setStatus(ApplicationStatus.CANCELED);
+        eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, studentId, LectureEnrollmentChangedEvent.ChangeType.CANCELED));
+
+        //대기 순서대로 승격 (좌석 수는 그대로), 대기 중에 이미 신청된 학생은 대기에서만 빼고 다음 대기자로 넘어감
+        Optional<LectureWaitlist> next;
+        while ((next = lectureWaitlistRepository.findFirstByLectureIdOrderByIdAsc(lectureId)).isPresent()) {
+            LectureWaitlist waiting = next.get();
+            lectureWaitlistRepository.delete(waiting);
+            if (activate(lecture, waiting.getStudent())) {
+                Long promotedStudentId = waiting.getStudent().getId();
+                eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, promotedStudentId, LectureEnrollmentChangedEvent.ChangeType.PROMOTED));
+                return promotedStudentId;
+            }
+        }
+
+        returnSeat(lecture, slots);
+        return null;
+    }
+
+    //대기 등록 (정원이 찬 강의만 가능, 학생은 StudentResolver로 미리 확정)
+    @Transactional
+    public void joinWaitlist(Long lectureId, Student student) {
+        if (student.getId() == null) {
+            throw new IllegalArgumentException("등록되지 않은 학생입니다.");
+        }
+        List<LectureSeatSlot> slots = lectureSeatSlotRepository.findAllByLectureIdWithLock(lectureId);
+        Lecture lecture = lockLecture(lectureId);
+        if (hasSeat(lecture, slots)) {
+            throw new IllegalStateException("잔여 좌석이 있어 바로 신청할 수 있습니다.");
+        }
+
+        if (lectureHistoryRepository.findByLectureIdAndStudentId(lectureId, student.getId())
+                .filter(history -> history.getStatus() == ApplicationStatus.APPLIED)
+                .isPresent()) {
+            throw new DuplicateApplicationException();
+        }
+
+        try {
+            lectureWaitlistRepository.saveAndFlush(new LectureWaitlist(lecture, student, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            //(lecture_id, student_id) 유니크 제약 위반만 중복 대기로, 그 밖의 위반(FK 등)은 그대로 전달
+            if (ConstraintViolations.isViolationOf(e, LectureWaitlist.UK_LECTURE_STUDENT)) {
+                throw new IllegalStateException("이미 대기 중인 강의입니다.");
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 취소했던 학생의 재신청. (lecture_id, student_id) 유니크 제약 때문에 새로 INSERT할 수 없으므로 기존 신청을 다시 APPLIED로 바꾼다.
+     * 취소된 신청이 없으면(이미 신청 중이면) 중복 신청으로 거절한다.
+     */
+    @Transactional
+    public void reapplyCanceledLecture(Long lectureId, Long studentId) {
+        List<LectureSeatSlot> slots = lectureSeatSlotRepository.findAllByLectureIdWithLock(lectureId);
+        Lecture lecture = lockLecture(lectureId);
+
+        LectureHistory history = lectureHistoryRepository.findByLectureIdAndStudentId(lectureId, studentId)
+                .filter(found -> found.getStatus() == ApplicationStatus.CANCELED)
+                .orElseThrow(DuplicateApplicationException::new);
+        if (!hasSeat(lecture, slots)) {
+            enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lectureId);
+            throw new LectureFullException();
+        }
+
+        takeSeat(lecture, slots);
+        history.setStatus(ApplicationStatus.APPLIED);
+        history.setAppliedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, studentId, LectureEnrollmentChangedEvent.ChangeType.APPLIED));
+    }
+
+    private Lecture lockLecture(Long lectureId) {
+        return lectureRepository.findByIdWithLock(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 강의를 찾을 수 없습니다."));
+    }
+
+    //승격: 예전에 취소한 신청이 있으면 되살리고, 없으면 새로 생성 (이미 신청 중인 학생이면 승격하지 않고 false)
+    private boolean activate(Lecture lecture, Student student) {
+        LectureHistory history = lectureHistoryRepository.findByLectureIdAndStudentId(lecture.getId(), student.getId())
+                .orElseGet(() -> {
+                    LectureHistory created = new LectureHistory();
+                    created.setLecture(lecture);
+                    created.setStudent(student);
+                    return created;
+                });
+        if (history.getStatus() == ApplicationStatus.APPLIED) {
+            return false;
+        }
+        history.setAppliedAt(LocalDateTime.now());
+        history.setStatus(ApplicationStatus.APPLIED);
+        lectureHistoryRepository.save(history);
+        return true;
+    }
+
+    private boolean hasSeat(Lecture lecture, List<LectureSeatSlot> slots) {
+        if (slots.isEmpty()) {
+            return lecture.getCurrentEnrollment() < lecture.getCapacity();
+        }
+        return slots.stream().anyMatch(slot -> slot.getHeadroom() > 0);
+    }
+
+    private void takeSeat(Lecture lecture, List<LectureSeatSlot> slots) {
+        if (slots.isEmpty()) {
+            lecture.setCurrentEnrollment(lecture.getCurrentEnrollment() + 1);
+            return;
+        }
+        LectureSeatSlot slot = slots.stream().filter(candidate -> candidate.getHeadroom() > 0).findFirst().orElseThrow();
+        slot.setEnrolled(slot.getEnrolled() + 1);
+    }
+
+    private void returnSeat(Lecture lecture, List<LectureSeatSlot> slots) {
+        if (slots.isEmpty()) {
+            lecture.setCurrentEnrollment(Math.max(lecture.getCurrentEnrollment() - 1, 0));
+            return;
+        }
+        slots.stream().filter(slot -> slot.getEnrolled() > 0).findFirst()
+                .ifPresent(slot -> slot.setEnrolled(slot.getEnrolled() - 1));
+    }
+}
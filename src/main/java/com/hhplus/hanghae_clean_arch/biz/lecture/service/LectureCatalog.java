@@ -0,0 +1,124 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureCatalogResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureSummaryDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotSum;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 강의 목록과 잔여 좌석을 주기적으로 갱신하는 메모리 스냅샷.
+ * 목록 조회는 (date, id) 순으로 정렬된 스냅샷에서 keyset 방식으로 잘라 반환하므로,
+ * 신청이 몰리는 동안에도 목록 트래픽이 신청 처리와 락/커넥션을 다투지 않는다.
+ */
+@Component
+public class LectureCatalog {
+
+    private static final Comparator<LectureSummaryDto> ORDER = Comparator
+            .comparing(LectureSummaryDto::getDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(LectureSummaryDto::getLectureId);
+
+    private final LectureRepository lectureRepository;
+    private final LectureSeatSlotRepository lectureSeatSlotRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), null);
+
+    public LectureCatalog(LectureRepository lectureRepository, LectureSeatSlotRepository lectureSeatSlotRepository) {
+        this.lectureRepository = lectureRepository;
+        this.lectureSeatSlotRepository = lectureSeatSlotRepository;
+    }
+
+    //스냅샷 갱신 (잠금 없는 조회 두 번으로 전체 강의를 다시 적재, replica 사용 시 replica에서 조회)
+    @Scheduled(fixedDelayString = "${lecture.catalog.refresh-ms:1000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<Long, Long> slotEnrolled = lectureSeatSlotRepository.sumEnrolledGroupByLecture().stream()
+                .collect(Collectors.toMap(LectureSeatSlotSum::lectureId, LectureSeatSlotSum::enrolled));
+
+        List<LectureSummaryDto> lectures = new ArrayList<>();
+        for (Lecture lecture : lectureRepository.findAllByOrderByDateAscIdAsc()) {
+            //카운터 슬롯을 쓰는 강의는 슬롯 합계 기준
+            long enrolled = slotEnrolled.getOrDefault(lecture.getId(), (long) lecture.getCurrentEnrollment());
+            int remaining = (int) Math.max(lecture.getCapacity() - enrolled, 0);
+            lectures.add(new LectureSummaryDto(lecture.getId(), lecture.getTitle(), lecture.getInstructor(),
+                    lecture.getDate(), lecture.getCapacity(), remaining));
+        }
+        lectures.sort(ORDER);
+        snapshot = new Snapshot(Collections.unmodifiableList(lectures), LocalDateTime.now());
+    }
+
+    /**
+     * 날짜 범위와 잔여 좌석 여부로 거른 목록을 (date, id) 순으로 size만큼 반환한다.
+     * cursorDate/cursorId가 있으면 그 다음 항목부터 이어서 조회한다.
+     */
+    public LectureCatalogResponseDto find(LocalDateTime from, LocalDateTime to, boolean availableOnly,
+                                          LocalDateTime cursorDate, Long cursorId, int size) {
+        if ((cursorDate == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("cursorDate와 cursorId는 함께 전달해야 합니다.");
+        }
+        Snapshot current = snapshot;
+        List<LectureSummaryDto> lectures = current.lectures;
+
+        int start = 0;
+        if (cursorId != null) {
+            start = indexAfter(lectures, cursorDate, cursorId);
+        }
+        if (from != null) {
+            start = Math.max(start, indexAfter(lectures, from, Long.MIN_VALUE));
+        }
+
+        //다음 페이지 여부를 같은 조건으로 판단하도록 한 건 더 모음 (범위 밖이나 매진 항목만 남았으면 다음 페이지 없음)
+        List<LectureSummaryDto> page = new ArrayList<>(size + 1);
+        for (int index = start; index < lectures.size() && page.size() <= size; index++) {
+            LectureSummaryDto lecture = lectures.get(index);
+            if (to != null && (lecture.getDate() == null || lecture.getDate().isAfter(to))) {
+                break;
+            }
+            if (!availableOnly || lecture.getRemainingSeats() > 0) {
+                page.add(lecture);
+            }
+        }
+
+        //다음 페이지는 이번 페이지의 마지막 항목 이후부터
+        boolean hasNext = page.size() > size;
+        if (hasNext) {
+            page.remove(size);
+        }
+        LectureSummaryDto last = hasNext ? page.get(page.size() - 1) : null;
+        return new LectureCatalogResponseDto(page,
+                last == null ? null : last.getDate(),
+                last == null ? null : last.getLectureId(),
+                current.refreshedAt);
+    }
+
+    //(date, id)보다 뒤에 오는 첫 항목의 위치 (이진 탐색)
+    private int indexAfter(List<LectureSummaryDto> lectures, LocalDateTime date, long id) {
+        LectureSummaryDto key = new LectureSummaryDto(id, null, null, date, 0, 0);
+        int low = 0;
+        int high = lectures.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ORDER.compare(lectures.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Snapshot(List<LectureSummaryDto> lectures, LocalDateTime refreshedAt) {
+    }
+}
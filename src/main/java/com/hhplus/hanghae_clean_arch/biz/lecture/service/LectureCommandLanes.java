@@ -0,0 +1,159 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import com.hhplus.hanghae_clean_arch.exception.SeatSlottedLectureException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 강의의 신청을 강의별 단일 처리 레인(스레드 1개 + bounded 큐)으로 보내 순차 처리한다.
+ * 레인은 강의의 잔여 좌석을 직접 들고 있어, 정원이 찬 뒤의 신청은 DB에 가지 않고 레인 안에서 거절한다.
+ * 좌석이 남았을 때만 조건부 UPDATE 한 번으로 저장하므로 같은 강의의 row lock 대기와 재시도가 발생하지 않고,
+ * 큐가 가득 차면 즉시 거절해 부하를 뒤로 밀어낸다. 레인 대상이 아닌 강의는 기존 방식으로 처리된다.
+ *
+ * 레인의 잔여 좌석은 다른 노드의 신청/취소를 모르므로 DB의 최종 판단을 대신하지 않는다.
+ * - DB가 정원 초과로 거절하면 0으로 맞추고, 취소 이벤트를 받거나 state-ttl-ms가 지나면 DB에서 다시 읽는다.
+ */
+@Component
+public class LectureCommandLanes {
+
+    private final LectureService lectureService;
+    private final LectureRepository lectureRepository;
+    private final EnrollmentMetrics enrollmentMetrics;
+    private final boolean enabled;
+    private final Set<Long> laneLectureIds;
+    private final int queueCapacity;
+    private final long stateTtlNanos;
+    private final boolean virtualThreads;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public LectureCommandLanes(LectureService lectureService,
+                               LectureRepository lectureRepository,
+                               EnrollmentMetrics enrollmentMetrics,
+                               @Value("${lecture.lane.enabled:false}") boolean enabled,
+                               @Value("${lecture.lane.lecture-ids:}") Set<Long> laneLectureIds,
+                               @Value("${lecture.lane.queue-capacity:1000}") int queueCapacity,
+                               @Value("${lecture.lane.state-ttl-ms:1000}") long stateTtlMillis,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.lectureService = lectureService;
+        this.lectureRepository = lectureRepository;
+        this.enrollmentMetrics = enrollmentMetrics;
+        this.enabled = enabled;
+        this.laneLectureIds = laneLectureIds;
+        this.queueCapacity = queueCapacity;
+        this.stateTtlNanos = TimeUnit.MILLISECONDS.toNanos(stateTtlMillis);
+        this.virtualThreads = virtualThreads;
+    }
+
+    //레인으로 처리할 강의인지 확인
+    public boolean handles(Long lectureId) {
+        return enabled && laneLectureIds.contains(lectureId);
+    }
+
+    public void applyLecture(Long lectureId, Student student) {
+        Lane lane = lanes.computeIfAbsent(lectureId, Lane::new);
+
+        CompletableFuture<Void> result;
+        try {
+            result = CompletableFuture.runAsync(() -> lane.apply(student), lane.executor);
+        } catch (RejectedExecutionException e) {
+            throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        result.join();
+    }
+
+    //취소로 좌석이 늘었으면 레인이 다음 신청 전에 DB에서 다시 읽도록 표시 (커밋 이후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void markStale(LectureEnrollmentChangedEvent event) {
+        if (event.changeType() != LectureEnrollmentChangedEvent.ChangeType.CANCELED) {
+            return;
+        }
+        Lane lane = lanes.get(event.lectureId());
+        if (lane != null) {
+            lane.stale = true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(lane -> lane.executor.shutdown());
+    }
+
+    //가상 스레드 모드에서는 레인도 가상 스레드로 실행
+    private ThreadFactory newThreadFactory(String name) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(name).factory();
+        }
+        return Thread.ofPlatform().name(name).daemon(true).factory();
+    }
+
+    private class Lane {
+        private final Long lectureId;
+        private final ThreadPoolExecutor executor;
+
+        //레인 스레드만 읽고 쓰는 강의 상태 (큐를 거쳐 넘겨받으므로 스레드가 바뀌어도 보임)
+        private boolean loaded;
+        private int remaining;
+        private long loadedAt;
+        //레인 밖(취소)에서 좌석이 늘었을 수 있음
+        private volatile boolean stale;
+
+        private Lane(Long lectureId) {
+            this.lectureId = lectureId;
+            this.executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    newThreadFactory("lecture-lane-" + lectureId),
+                    new ThreadPoolExecutor.AbortPolicy());
+            //한가한 레인은 스레드를 반납
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        private void apply(Student student) {
+            if (!loaded || stale || System.nanoTime() - loadedAt > stateTtlNanos) {
+                load();
+            }
+            if (remaining <= 0) {
+                enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lectureId);
+                throw new LectureFullException();
+            }
+            try {
+                lectureService.applyLectureWithConditionalUpdate(lectureId, student);
+            } catch (LectureFullException e) {
+                //다른 노드가 먼저 채움
+                remaining = 0;
+                throw e;
+            }
+            remaining--;
+        }
+
+        private void load() {
+            stale = false;
+            Lecture lecture = lectureRepository.findById(lectureId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 강의를 찾을 수 없습니다."));
+            if (lecture.isSeatSlotted()) {
+                throw new SeatSlottedLectureException();
+            }
+            remaining = Math.max(lecture.getCapacity() - lecture.getCurrentEnrollment(), 0);
+            loadedAt = System.nanoTime();
+            loaded = true;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 강의 단위 배타 락.
+ * 구현은 lecture.distributed-lock.provider로 고르며 (lease: lease 테이블, advisory: MariaDB GET_LOCK),
+ * 다른 저장소(Redis 등)를 쓰려면 이 인터페이스를 구현한 빈을 추가하면 된다.
+ *
+ * 락은 보유 중에도 만료되거나 끊길 수 있으므로, 쓰기는 반드시 fencing token으로 검증해야 한다 (Lecture.lockFence).
+ */
+public interface LectureLockProvider {
+
+    /**
+     * wait 동안 락을 기다려 획득한다. 시간 안에 얻지 못하면 LectureBusyException.
+     */
+    LectureLock acquire(Long lectureId, Duration wait);
+
+    interface LectureLock extends AutoCloseable {
+
+        //강의별로 획득할 때마다 증가하는 값 (늦게 얻은 락일수록 큼)
+        long fencingToken();
+
+        @Override
+        void close();
+    }
+}
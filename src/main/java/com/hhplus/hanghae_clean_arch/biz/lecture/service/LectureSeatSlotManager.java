@@ -0,0 +1,141 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureSeatSlot;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotSum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 강의 신청 인원을 N개의 슬롯으로 나눠 Lecture 한 행에 몰리는 갱신을 분산한다.
+ * 신청자는 학생 id로 슬롯에 배정되고, 슬롯이 바닥나면 가장 여유 있는 슬롯의 남은 정원 절반을 옮겨온다.
+ * 정원 이동은 강의의 슬롯 전체를 잠근 상태에서만 일어나므로 슬롯 정원 합(=강의 정원)은 항상 유지된다.
+ * 슬롯을 만들 때 강의에 seatSlotted를 표시하며, 그 뒤로 Lecture.currentEnrollment를 갱신하는 경로는 이 강의를 거절한다.
+ */
+@Component
+public class LectureSeatSlotManager {
+
+    private final LectureRepository lectureRepository;
+    private final LectureSeatSlotRepository lectureSeatSlotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultSlotCount;
+
+    //한 번 만들어진 슬롯 수는 바뀌지 않으므로 캐시
+    private final Map<Long, Integer> slotCounts = new ConcurrentHashMap<>();
+
+    public LectureSeatSlotManager(LectureRepository lectureRepository,
+                                  LectureSeatSlotRepository lectureSeatSlotRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${lecture.sharded-counter.slots:8}") int defaultSlotCount) {
+        this.lectureRepository = lectureRepository;
+        this.lectureSeatSlotRepository = lectureSeatSlotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultSlotCount = defaultSlotCount;
+    }
+
+    //강의의 슬롯 수 (슬롯이 없으면 현재 신청 인원을 기준으로 생성)
+    public int slotCountOf(Long lectureId) {
+        Integer count = slotCounts.get(lectureId);
+        if (count == null) {
+            count = transactionTemplate.execute(status -> initialize(lectureId));
+            slotCounts.put(lectureId, count);
+        }
+        return count;
+    }
+
+    //이 노드에서 슬롯 수를 이미 확인한 강의인지 (슬롯은 한 번 만들어지면 없어지지 않음)
+    public boolean isSlotted(Long lectureId) {
+        return slotCounts.containsKey(lectureId);
+    }
+
+    //학생을 슬롯에 배정 (id가 없으면 임의 배정)
+    public int slotOf(Student student, int slotCount) {
+        if (student.getId() == null) {
+            return ThreadLocalRandom.current().nextInt(slotCount);
+        }
+        return (int) Math.floorMod(student.getId(), (long) slotCount);
+    }
+
+    /**
+     * 소진된 슬롯에 다른 슬롯의 남은 정원을 옮겨온다.
+     * 이미 다른 요청이 채워 둔 경우도 true, 강의 전체 정원이 소진된 경우에만 false를 반환한다.
+     */
+    public boolean refill(Long lectureId, int slotNo) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            List<LectureSeatSlot> slots = lectureSeatSlotRepository.findAllByLectureIdWithLock(lectureId);
+            LectureSeatSlot target = slots.stream()
+                    .filter(slot -> slot.getSlotNo() == slotNo)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("카운터 슬롯을 찾을 수 없습니다: " + slotNo));
+            if (target.getHeadroom() > 0) {
+                return true;
+            }
+
+            LectureSeatSlot donor = slots.stream().max(Comparator.comparingInt(LectureSeatSlot::getHeadroom)).orElseThrow();
+            int headroom = donor.getHeadroom();
+            if (headroom == 0) {
+                return false;
+            }
+            int moved = (headroom + 1) / 2;
+            donor.setCapacity(donor.getCapacity() - moved);
+            target.setCapacity(target.getCapacity() + moved);
+            return true;
+        }));
+    }
+
+    //현재 신청 인원 (슬롯을 쓰는 강의는 슬롯 합계)
+    public int getCurrentEnrollment(Lecture lecture) {
+        Long enrolled = lectureSeatSlotRepository.sumEnrolledByLectureId(lecture.getId());
+        return enrolled == null ? lecture.getCurrentEnrollment() : enrolled.intValue();
+    }
+
+    //여러 강의의 현재 신청 인원 (슬롯 합계는 한 번의 집계 쿼리로 조회)
+    public Map<Long, Integer> getCurrentEnrollments(Collection<Lecture> lectures) {
+        Map<Long, Long> slotEnrolled = lectureSeatSlotRepository.sumEnrolledGroupByLecture().stream()
+                .collect(Collectors.toMap(LectureSeatSlotSum::lectureId, LectureSeatSlotSum::enrolled));
+        Map<Long, Integer> enrollments = new HashMap<>();
+        for (Lecture lecture : lectures) {
+            Long enrolled = slotEnrolled.get(lecture.getId());
+            enrollments.put(lecture.getId(), enrolled == null ? lecture.getCurrentEnrollment() : enrolled.intValue());
+        }
+        return enrollments;
+    }
+
+    private int initialize(Long lectureId) {
+        //강의를 잠가 동시에 슬롯이 두 번 만들어지지 않도록 함
+        Lecture lecture = lectureRepository.findByIdWithLock(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 강의를 찾을 수 없습니다."));
+        long existing = lectureSeatSlotRepository.countByLectureId(lectureId);
+        if (existing > 0) {
+            //표시 컬럼이 생기기 전에 만들어진 슬롯
+            lecture.setSeatSlotted(true);
+            return (int) existing;
+        }
+
+        //이후 Lecture 행 기준 신청(다른 방식, 배치 저장)은 이 표시를 보고 거절
+        lecture.setSeatSlotted(true);
+
+        //기존 신청 인원은 0번 슬롯에 두고, 남은 정원을 슬롯마다 고르게 나눔
+        int enrolled = lecture.getCurrentEnrollment();
+        int remaining = Math.max(lecture.getCapacity() - enrolled, 0);
+        for (int slotNo = 0; slotNo < defaultSlotCount; slotNo++) {
+            int slice = remaining / defaultSlotCount + (slotNo < remaining % defaultSlotCount ? 1 : 0);
+            int slotEnrolled = slotNo == 0 ? enrolled : 0;
+            lectureSeatSlotRepository.save(new LectureSeatSlot(lecture, slotNo, slice + slotEnrolled, slotEnrolled));
+        }
+        return defaultSlotCount;
+    }
+}
@@ -1,83 +1,407 @@
 package com.hhplus.hanghae_clean_arch.biz.lecture.service;
 
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.BulkEnrollmentItem;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureHistory;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureSeatSlot;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureSoldOutEvent;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentResultDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryJdbcRepository;
 import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRow;
 import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
-import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
-import jakarta.transaction.Transactional;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.dao.CannotAcquireLockException;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import com.hhplus.hanghae_clean_arch.config.CacheConfig;
+import com.hhplus.hanghae_clean_arch.exception.ConstraintViolations;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import com.hhplus.hanghae_clean_arch.exception.SeatSlottedLectureException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class LectureService {
+    //일괄 신청에서 외부 id 없는 항목의 식별 키 접두사 (항목 번호를 붙여 항목마다 다른 학생으로 취급)
+    private static final String ANONYMOUS_KEY = "anonymous:";
+
     private final LectureRepository lectureRepository;
     private final LectureHistoryRepository lectureHistoryRepository;
-    private final StudentRepository studentRepository;
+    private final LectureHistoryJdbcRepository lectureHistoryJdbcRepository;
+    private final LectureSeatSlotRepository lectureSeatSlotRepository;
+    private final StudentResolver studentResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollmentMetrics enrollmentMetrics;
 
-    public LectureService(LectureRepository lectureRepository, LectureHistoryRepository lectureHistoryRepository, StudentRepository studentRepository) {
+    public LectureService(LectureRepository lectureRepository, LectureHistoryRepository lectureHistoryRepository,
+                          LectureHistoryJdbcRepository lectureHistoryJdbcRepository, LectureSeatSlotRepository lectureSeatSlotRepository,
+                          StudentResolver studentResolver, ApplicationEventPublisher eventPublisher, EnrollmentMetrics enrollmentMetrics) {
         this.lectureRepository = lectureRepository;
         this.lectureHistoryRepository = lectureHistoryRepository;
-        this.studentRepository = studentRepository;
+        this.lectureHistoryJdbcRepository = lectureHistoryJdbcRepository;
+        this.lectureSeatSlotRepository = lectureSeatSlotRepository;
+        this.studentResolver = studentResolver;
+        this.eventPublisher = eventPublisher;
+        this.enrollmentMetrics = enrollmentMetrics;
     }
 
-    @Retryable(
-            value = CannotAcquireLockException.class,
-            maxAttempts = 3, // 최대 3회 재시도
-            backoff = @Backoff(delay = 200) // 200ms 딜레이
-    )
+    //비관적 락 신청 (락 대기 시간 초과/교착 시 재시도는 PessimisticEnrollmentStrategy에서 처리)
     @Transactional
     public void applyLecture(Long lectureId, Student student) {
+        requireRegistered(student);
         //강의 조회
-        //Lecture lecture = lectureRepository.findById(lectureId)
+        long lockStart = System.nanoTime();
         Lecture lecture = lectureRepository.findByIdWithLock(lectureId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 강의를 찾을 수 없습니다."));
+        enrollmentMetrics.recordLockWait(EnrollmentStrategyType.PESSIMISTIC, System.nanoTime() - lockStart);
 
-        if (student.getId() == null) {
-            student = studentRepository.save(student);
+        enroll(lecture, student, EnrollmentStrategyType.PESSIMISTIC);
+    }
+
+    /**
+     * 락 없이 조회하는 신청 처리 (낙관적 락 방식, 강의별 단일 처리 레인).
+     * 동시에 갱신된 경우 커밋 시 @Version 충돌(ObjectOptimisticLockingFailureException)로 감지되며, 재시도는 호출자가 맡는다.
+     */
+    @Transactional
+    public void applyLectureWithoutLock(Long lectureId, Student student) {
+        requireRegistered(student);
+        Lecture lecture = lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 강의를 찾을 수 없습니다."));
+
+        enroll(lecture, student, EnrollmentStrategyType.OPTIMISTIC);
+    }
+
+    /**
+     * 정원 미만일 때만 신청 인원을 늘리는 단일 UPDATE로 좌석을 확보한 뒤 신청 기록을 저장한다.
+     * 조회 후 쓰기가 없어 row lock은 UPDATE 시점부터 커밋까지만 잡힌다.
+     */
+    @Transactional
+    public void applyLectureWithConditionalUpdate(Long lectureId, Student student) {
+        requireRegistered(student);
+        long lockStart = System.nanoTime();
+        int updated = lectureRepository.increaseEnrollmentIfAvailable(lectureId);
+        enrollmentMetrics.recordLockWait(EnrollmentStrategyType.CONDITIONAL_UPDATE, System.nanoTime() - lockStart);
+
+        if (updated == 0) {
+            if (!lectureRepository.existsById(lectureId)) {
+                throw new IllegalArgumentException("해당 강의를 찾을 수 없습니다.");
+            }
+            if (lectureRepository.existsByIdAndSeatSlottedTrue(lectureId)) {
+                throw new SeatSlottedLectureException();
+            }
+            enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lectureId);
+            throw new LectureFullException();
         }
-        //중복 신청 확인
-        if (lectureHistoryRepository.existsByLectureAndStudent(lecture, student)) {
-            throw new IllegalStateException("이미 신청된 강의입니다.");
+
+        Lecture lecture = lectureRepository.getReferenceById(lectureId);
+        //중복 신청이면 롤백되어 증가분도 취소
+        recordHistory(lecture, student, EnrollmentStrategyType.CONDITIONAL_UPDATE);
+    }
+
+    /**
+     * 배정된 카운터 슬롯의 인원만 조건부로 늘린 뒤 신청 기록을 저장한다. (Lecture 행은 갱신하지 않음)
+     * 슬롯이 소진되었으면 아무것도 쓰지 않고 false를 반환하며, 정원 재분배와 재시도는 호출자가 맡는다.
+     */
+    @Transactional
+    public boolean applyLectureWithSeatSlot(Long lectureId, int slotNo, Student student) {
+        requireRegistered(student);
+        long lockStart = System.nanoTime();
+        int updated = lectureSeatSlotRepository.increaseEnrolledIfAvailable(lectureId, slotNo);
+        enrollmentMetrics.recordLockWait(EnrollmentStrategyType.SHARDED_COUNTER, System.nanoTime() - lockStart);
+        if (updated == 0) {
+            return false;
         }
 
+        Lecture lecture = lectureRepository.getReferenceById(lectureId);
+        //중복 신청이면 롤백되어 슬롯 증가분도 취소
+        recordHistory(lecture, student, EnrollmentStrategyType.SHARDED_COUNTER);
+        return true;
+    }
+
+    /**
+     * 분산 락(LectureLockProvider)을 보유한 상태의 신청. 강의 행을 잠그지 않고 신청 기록을 먼저 저장한 뒤,
+     * 마지막에 fencing token 조건부 UPDATE로 인원을 늘려 row lock은 그 시점부터 커밋까지만 잡힌다.
+     * 락이 만료되어 더 큰 token이 이미 쓰였으면 LectureBusyException으로 롤백한다.
+     */
+    @Transactional
+    public void applyLectureWithFencing(Long lectureId, Student student, long fencingToken) {
+        requireRegistered(student);
+        Lecture lecture = lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 강의를 찾을 수 없습니다."));
+        if (lecture.isSeatSlotted()) {
+            throw new SeatSlottedLectureException();
+        }
+        if (lecture.getCurrentEnrollment() >= lecture.getCapacity()) {
+            enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lectureId);
+            throw new LectureFullException();
+        }
+
+        //중복 신청이면 여기서 롤백 (강의 행은 아직 갱신 전)
+        recordHistory(lecture, student, EnrollmentStrategyType.DISTRIBUTED_LOCK);
+
+        if (lectureRepository.increaseEnrollmentIfFenced(lectureId, fencingToken) == 0) {
+            long lockFence = lectureRepository.findLockFenceById(lectureId).orElse(0L);
+            if (lockFence >= fencingToken) {
+                throw new LectureBusyException("락 보유 시간이 만료되어 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (lectureRepository.existsByIdAndSeatSlottedTrue(lectureId)) {
+                throw new SeatSlottedLectureException();
+            }
+            enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lectureId);
+            throw new LectureFullException();
+        }
+        publishIfSoldOut(lectureId, lecture.getCurrentEnrollment() + 1, lecture.getCapacity());
+    }
+
+    /**
+     * 관리자 일괄 신청.
+     * 강의는 id 순서로 한 번씩만 잠그고, 중복/정원은 강의 단위 집합 조회로 판단한 뒤 신청 기록을 JDBC 배치로 저장한다.
+     * 카운터 슬롯을 쓰는 강의는 슬롯 정원으로 판단하고 슬롯 인원을 늘린다. (취소와 같이 슬롯을 강의보다 먼저 잠금)
+     * 거절된 항목은 결과에 사유만 남기며 나머지 항목의 신청에는 영향을 주지 않는다. (결과는 요청 순서와 동일)
+     * id가 없는 학생은 이 트랜잭션 안에서 외부 id로 한 번에 조회하고, 신규 학생은 받아들여진 항목만 한 번에 등록한다. (롤백되면 함께 취소)
+     * 외부 id 없이 이름만 있는 항목은 항목마다 새 학생으로 등록한다.
+     */
+    @Transactional
+    public List<BulkEnrollmentResultDto> bulkApplyLectures(List<BulkEnrollmentItem> items) {
+        BulkEnrollmentResultDto[] results = new BulkEnrollmentResultDto[items.size()];
+        //항목별 학생 식별 (확정된 id 또는 아직 등록되지 않은 학생의 자연키)
+        Object[] identities = new Object[items.size()];
+        Map<String, Long> registeredIds = studentResolver.findRegisteredIds(items.stream()
+                .map(BulkEnrollmentItem::student)
+                .filter(student -> student.getId() == null)
+                .toList());
+
+        //강의 id 순으로 정렬해 단건 신청과 락 순서를 맞춤
+        Map<Long, List<Integer>> indexesByLecture = new TreeMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkEnrollmentItem item = items.get(i);
+            Student student = item.student();
+            String key = student.getId() == null ? StudentResolver.naturalKey(student) : null;
+            if (student.getId() == null && StudentResolver.isAnonymous(student)) {
+                //외부 id 없는 신청은 항목마다 다른 신규 학생 (이름이 같아도 합치지 않음)
+                key = ANONYMOUS_KEY + i;
+            }
+            Long studentId = student.getId() != null ? student.getId() : key == null ? null : registeredIds.get(key);
+            identities[i] = studentId != null ? studentId : key;
+            if (item.lectureId() == null) {
+                results[i] = BulkEnrollmentResultDto.rejected(null, idOf(identities[i]), "해당 강의를 찾을 수 없습니다.");
+                continue;
+            }
+            if (identities[i] == null) {
+                results[i] = BulkEnrollmentResultDto.rejected(item.lectureId(), null, "학생 정보가 필요합니다.");
+                continue;
+            }
+            indexesByLecture.computeIfAbsent(item.lectureId(), id -> new ArrayList<>()).add(i);
+        }
+
+        Map<Long, List<LectureSeatSlot>> slotsByLecture = lectureSeatSlotRepository.findAllByLectureIdInWithLock(indexesByLecture.keySet()).stream()
+                .collect(Collectors.groupingBy(slot -> slot.getLecture().getId()));
+        Map<Long, Lecture> lectures = lectureRepository.findAllByIdWithLock(indexesByLecture.keySet()).stream()
+                .collect(Collectors.toMap(Lecture::getId, Function.identity()));
+
+        LocalDateTime appliedAt = LocalDateTime.now();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Integer> reactivated = new ArrayList<>();
+        Map<String, Student> newStudents = new LinkedHashMap<>();
+        indexesByLecture.forEach((lectureId, indexes) -> {
+            Lecture lecture = lectures.get(lectureId);
+            if (lecture == null) {
+                indexes.forEach(i -> results[i] = BulkEnrollmentResultDto.rejected(lectureId, idOf(identities[i]), "해당 강의를 찾을 수 없습니다."));
+                return;
+            }
+            List<LectureSeatSlot> slots = slotsByLecture.getOrDefault(lectureId, List.of());
+            if (lecture.isSeatSlotted() && slots.isEmpty()) {
+                //슬롯 조회 이후 슬롯이 만들어진 강의 (잠그지 않은 슬롯은 건드리지 않음)
+                indexes.forEach(i -> results[i] = BulkEnrollmentResultDto.rejected(lectureId, idOf(identities[i]),
+                        "신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+                return;
+            }
+
+            //신청 기록을 한 번에 조회해 신청 중인 학생은 중복으로, 취소했던 학생은 기존 행을 되살리는 대상으로 나눔
+            //요청 안의 중복도 같은 집합으로 거름 (미등록 학생은 신청 기록이 없으므로 요청 안의 중복만 확인)
+            Set<Long> studentIds = indexes.stream().map(i -> identities[i]).filter(Long.class::isInstance).map(Long.class::cast)
+                    .collect(Collectors.toSet());
+            Map<Long, LectureHistory> histories = studentIds.isEmpty()
+                    ? Map.of()
+                    : lectureHistoryRepository.findAllByLectureIdAndStudentIdIn(lectureId, studentIds).stream()
+                            .collect(Collectors.toMap(history -> history.getStudent().getId(), Function.identity()));
+            Set<Object> enrolled = histories.values().stream()
+                    .filter(history -> history.getStatus() == ApplicationStatus.APPLIED)
+                    .map(history -> (Object) history.getStudent().getId())
+                    .collect(Collectors.toCollection(HashSet::new));
+            int remaining = slots.isEmpty()
+                    ? lecture.getCapacity() - lecture.getCurrentEnrollment()
+                    : slots.stream().mapToInt(LectureSeatSlot::getHeadroom).sum();
+            int accepted = 0;
+            for (int i : indexes) {
+                Object identity = identities[i];
+                if (!enrolled.add(identity)) {
+                    enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.DUPLICATE, lectureId);
+                    results[i] = BulkEnrollmentResultDto.rejected(lectureId, idOf(identity), "이미 신청된 강의입니다.");
+                } else if (accepted >= remaining) {
+                    enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lectureId);
+                    results[i] = BulkEnrollmentResultDto.rejected(lectureId, idOf(identity), "강의 정원이 초과되었습니다.");
+                } else {
+                    accepted++;
+                    LectureHistory canceled = histories.get(identity);
+                    if (canceled != null) {
+                        //(lecture_id, student_id) 유니크 제약 때문에 새로 INSERT하지 않고 취소된 신청을 되살림 (커밋 시 UPDATE)
+                        canceled.setStatus(ApplicationStatus.APPLIED);
+                        canceled.setAppliedAt(appliedAt);
+                        reactivated.add(i);
+                        results[i] = BulkEnrollmentResultDto.applied(lectureId, (Long) identity);
+                        continue;
+                    }
+                    acceptedIndexes.add(i);
+                    if (identity instanceof String key) {
+                        newStudents.computeIfAbsent(key, k -> newStudent(items.get(i).student()));
+                    }
+                }
+            }
+            //잠근 강의(또는 슬롯) 엔티티에 반영 (커밋 시 한 번에 UPDATE)
+            if (slots.isEmpty()) {
+                lecture.setCurrentEnrollment(lecture.getCurrentEnrollment() + accepted);
+            } else {
+                fillSlots(slots, accepted);
+            }
+        });
+
+        //받아들여진 항목의 신규 학생만 한 번에 등록 (거절된 항목은 학생 행을 남기지 않음)
+        if (!newStudents.isEmpty()) {
+            studentResolver.registerAll(newStudents.values());
+        }
+        List<LectureHistoryRow> rows = new ArrayList<>();
+        for (int i : acceptedIndexes) {
+            Long lectureId = items.get(i).lectureId();
+            Long studentId = identities[i] instanceof String key ? newStudents.get(key).getId() : (Long) identities[i];
+            rows.add(new LectureHistoryRow(lectureId, studentId, appliedAt, ApplicationStatus.APPLIED));
+            results[i] = BulkEnrollmentResultDto.applied(lectureId, studentId);
+        }
+
+        lectureHistoryJdbcRepository.insertAll(rows);
+        rows.forEach(row -> eventPublisher.publishEvent(
+                new LectureEnrollmentChangedEvent(row.lectureId(), row.studentId(), LectureEnrollmentChangedEvent.ChangeType.APPLIED)));
+        reactivated.forEach(i -> eventPublisher.publishEvent(
+                new LectureEnrollmentChangedEvent(results[i].getLectureId(), results[i].getStudentId(), LectureEnrollmentChangedEvent.ChangeType.APPLIED)));
+        return Arrays.asList(results);
+    }
+
+    //등록 전인 학생은 결과에 id 없이 기록
+    private Long idOf(Object identity) {
+        return identity instanceof Long studentId ? studentId : null;
+    }
+
+    private Student newStudent(Student source) {
+        Student student = new Student();
+        student.setName(source.getName());
+        student.setExternalId(source.getExternalId());
+        return student;
+    }
+
+    //여유 있는 슬롯부터 채움
+    private void fillSlots(List<LectureSeatSlot> slots, int count) {
+        for (LectureSeatSlot slot : slots) {
+            int taken = Math.min(slot.getHeadroom(), count);
+            slot.setEnrolled(slot.getEnrolled() + taken);
+            count -= taken;
+        }
+    }
+
+    //단건 신청의 학생 등록은 StudentResolver가 락 밖에서 처리 (락을 잡은 트랜잭션은 강의/신청 내역만 갱신)
+    private void requireRegistered(Student student) {
+        if (student.getId() == null) {
+            throw new IllegalArgumentException("등록되지 않은 학생입니다.");
+        }
+    }
+
+    private void enroll(Lecture lecture, Student student, EnrollmentStrategyType strategy) {
+        //슬롯 강의의 인원은 슬롯에만 반영
+        if (lecture.isSeatSlotted()) {
+            throw new SeatSlottedLectureException();
+        }
         //정원 초과 확인
         if (lecture.getCurrentEnrollment() >= lecture.getCapacity()) {
-            throw new IllegalStateException("강의 정원이 초과되었습니다.");
+            enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lecture.getId());
+            throw new LectureFullException();
         }
 
-        //신청 기록 생성 및 저장
+        //현재 신청 인원 증가
+        lecture.setCurrentEnrollment(lecture.getCurrentEnrollment() + 1);
+        lectureRepository.save(lecture);
+
+        recordHistory(lecture, student, strategy);
+        publishIfSoldOut(lecture.getId(), lecture.getCurrentEnrollment(), lecture.getCapacity());
+    }
+
+    private void recordHistory(Lecture lecture, Student student, EnrollmentStrategyType strategy) {
+        //신청 기록 생성 및 저장 (중복 신청은 별도 조회 없이 (lecture_id, student_id) 유니크 제약 위반으로 확인)
         LectureHistory history = new LectureHistory();
         history.setLecture(lecture);
         history.setStudent(student);
         history.setAppliedAt(LocalDateTime.now());
         history.setStatus(ApplicationStatus.APPLIED);
-        lectureHistoryRepository.save(history);
+        long insertStart = System.nanoTime();
+        try {
+            lectureHistoryRepository.saveAndFlush(history);
+        } catch (DataIntegrityViolationException e) {
+            enrollmentMetrics.recordStage(EnrollmentMetrics.Stage.DUPLICATE_CHECK, strategy, System.nanoTime() - insertStart);
+            RuntimeException failure = toDuplicateApplication(e);
+            if (failure instanceof DuplicateApplicationException) {
+                enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.DUPLICATE, lecture.getId());
+            }
+            throw failure;
+        }
+        //중복 확인은 유니크 INSERT 자체이므로 통과한 경우도 같은 시간으로 기록
+        long insertNanos = System.nanoTime() - insertStart;
+        enrollmentMetrics.recordStage(EnrollmentMetrics.Stage.DUPLICATE_CHECK, strategy, insertNanos);
+        enrollmentMetrics.recordStage(EnrollmentMetrics.Stage.HISTORY_INSERT, strategy, insertNanos);
+        enrollmentMetrics.recordCommit(strategy);
 
-        //현재 신청 인원 증가
-        lecture.setCurrentEnrollment(lecture.getCurrentEnrollment() + 1);
-        lectureRepository.save(lecture);
+        //커밋 이후 캐시 무효화 등 후속 처리
+        eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lecture.getId(), student.getId(), LectureEnrollmentChangedEvent.ChangeType.APPLIED));
     }
 
+    //마지막 좌석이면 커밋 이후 매진 등록
+    private void publishIfSoldOut(Long lectureId, int enrolled, int capacity) {
+        if (enrolled >= capacity) {
+            eventPublisher.publishEvent(new LectureSoldOutEvent(lectureId));
+        }
+    }
 
-    // 특강 신청 완료 목록 조회
-    public List<Lecture> getCompletedLecturesByUserId(Long userId) {
-        // 특정 유저가 신청한 완료된 특강 목록 조회
-        List<LectureHistory> lectureHistories = lectureHistoryRepository.findByStudentIdAndStatus(userId, ApplicationStatus.APPLIED);
+    //(lecture_id, student_id) 유니크 제약 위반만 중복 신청으로, 그 밖의 위반(FK, 이름을 알 수 없는 위반 등)은 그대로 전달
+    private RuntimeException toDuplicateApplication(DataIntegrityViolationException e) {
+        if (ConstraintViolations.isViolationOf(e, LectureHistory.UK_LECTURE_STUDENT)) {
+            return new DuplicateApplicationException();
+        }
+        return e;
+    }
 
-        // 결과에서 Lecture만 추출하여 반환
-        return lectureHistories.stream()
-                .map(LectureHistory::getLecture) // LectureHistory에서 Lecture 객체만 추출
-                .collect(Collectors.toList());
+    // 특강 신청 완료 목록 조회 (학생별 캐시, 신청 시 무효화)
+    @Cacheable(cacheNames = CacheConfig.COMPLETED_LECTURES, key = "#userId")
+    @Transactional(readOnly = true)
+    public List<CompletedLectureResponseDto> getCompletedLecturesByUserId(Long userId) {
+        // 특정 유저가 신청한 완료된 특강 목록을 projection으로 조회
+        return lectureHistoryRepository.findCompletedLectures(userId, ApplicationStatus.APPLIED);
     }
 
 
@@ -0,0 +1,75 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 강의 id 기준 striped 락으로 같은 강의의 신청을 노드 안에서 먼저 줄 세운다.
+ * 같은 강의의 요청은 한 번에 하나만 커넥션을 얻고 DB 락을 잡으며, 나머지는 커넥션 없이 JVM 안에서 대기하다 제한 시간 후 거절된다.
+ * 락 수는 고정(stripes)이라 서로 다른 강의가 같은 락을 나눠 쓸 수 있으며, 그만큼 함께 순차 처리된다.
+ */
+@Component
+public class LectureStripedLocks {
+
+    private final boolean enabled;
+    private final ReentrantLock[] locks;
+    private final long acquireTimeoutMs;
+
+    public LectureStripedLocks(@Value("${lecture.striped-lock.enabled:true}") boolean enabled,
+                               @Value("${lecture.striped-lock.stripes:256}") int stripes,
+                               @Value("${lecture.striped-lock.acquire-timeout-ms:3000}") long acquireTimeoutMs) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("lecture.striped-lock.stripes는 2의 거듭제곱이어야 합니다.");
+        }
+        this.enabled = enabled;
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            //먼저 온 요청부터 처리
+            locks[i] = new ReentrantLock(true);
+        }
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public void run(Long lectureId, Runnable task) {
+        execute(lectureId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(Long lectureId, Supplier<T> task) {
+        if (!enabled || lectureId == null) {
+            return task.get();
+        }
+        ReentrantLock lock = lockOf(lectureId);
+        acquire(lock);
+        try {
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockOf(Long lectureId) {
+        int hash = lectureId.hashCode();
+        //하위 비트에 상위 비트를 섞어 연속된 id가 고르게 퍼지도록 함
+        hash ^= hash >>> 16;
+        return locks[hash & (locks.length - 1)];
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LectureBusyException("요청 처리가 중단되었습니다.");
+        }
+    }
+}
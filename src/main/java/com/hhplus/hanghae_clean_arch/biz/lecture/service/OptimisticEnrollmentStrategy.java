@@ -0,0 +1,45 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OptimisticEnrollmentStrategy implements EnrollmentConcurrencyStrategy {
+
+    private final LectureService lectureService;
+    private final EnrollmentMetrics enrollmentMetrics;
+    //동시에 충돌한 요청들이 같은 시점에 다시 부딪히지 않도록 지터를 섞은 지수 백오프
+    private final RetryTemplate retryTemplate = RetryTemplate.builder()
+            .maxAttempts(5)
+            .exponentialBackoff(20, 2.0, 500, true)
+            .retryOn(ObjectOptimisticLockingFailureException.class)
+            .build();
+
+    public OptimisticEnrollmentStrategy(LectureService lectureService, EnrollmentMetrics enrollmentMetrics) {
+        this.lectureService = lectureService;
+        this.enrollmentMetrics = enrollmentMetrics;
+    }
+
+    @Override
+    public EnrollmentStrategyType type() {
+        return EnrollmentStrategyType.OPTIMISTIC;
+    }
+
+    @Override
+    public void apply(Long lectureId, Student student) {
+        try {
+            retryTemplate.execute(context -> {
+                if (context.getRetryCount() > 0) {
+                    enrollmentMetrics.incrementRetry(type(), lectureId);
+                }
+                lectureService.applyLectureWithoutLock(lectureId, student);
+                return null;
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PessimisticEnrollmentStrategy implements EnrollmentConcurrencyStrategy {
+
+    private final LectureService lectureService;
+    private final EnrollmentMetrics enrollmentMetrics;
+    private final RetryTemplate retryTemplate = RetryTemplate.builder()
+            .maxAttempts(3) // 최대 3회 시도
+            .fixedBackoff(200) // 200ms 딜레이
+            //MariaDB 락 대기 시간 초과(1205)는 CannotAcquireLockException이 아닌 상위 PessimisticLockingFailureException으로 올라옴
+            .retryOn(PessimisticLockingFailureException.class)
+            .build();
+
+    public PessimisticEnrollmentStrategy(LectureService lectureService, EnrollmentMetrics enrollmentMetrics) {
+        this.lectureService = lectureService;
+        this.enrollmentMetrics = enrollmentMetrics;
+    }
+
+    @Override
+    public EnrollmentStrategyType type() {
+        return EnrollmentStrategyType.PESSIMISTIC;
+    }
+
+    @Override
+    public void apply(Long lectureId, Student student) {
+        try {
+            retryTemplate.execute(context -> {
+                if (context.getRetryCount() > 0) {
+                    enrollmentMetrics.incrementRetry(type(), lectureId);
+                }
+                lectureService.applyLecture(lectureId, student);
+                return null;
+            });
+        } catch (PessimisticLockingFailureException e) {
+            throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.RemainingSeatsDto;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 강의별 잔여 좌석을 SSE로 밀어주는 단일 발행기.
+ * 신청 커밋마다 바로 보내지 않고 변경된 강의만 표시해 두었다가, 주기마다 강의당 한 번씩 최신 값을 읽어 구독자 전체에 보낸다.
+ * 잔여 좌석은 좌석 선점기의 메모리 값을 읽으므로 구독자 수와 무관하게 DB 조회가 없다.
+ *
+ * - 구독자마다 보낼 값 한 칸만 두고, 전송 중에 들어온 값은 덮어써 최신 값만 보낸다. (구독자당 전송 작업은 최대 하나)
+ * - 보내지 못한 값이 max-missed-updates번 넘게 덮어써졌거나 한 번 전송이 slow-send-ms보다 오래 걸린 구독자는 느린 구독자로 보고 끊는다.
+ * - heartbeat는 heartbeat-ms 동안 아무것도 받지 못한 구독자에게만 같은 칸으로 보낸다.
+ * - 전송 대기 작업 수는 구독자 수를 넘지 않으며, 구독자 수는 max-subscribers로 제한한다.
+ */
+@Component
+public class RemainingSeatsStream {
+
+    private static final String EVENT_NAME = "remaining-seats";
+    //보낼 값이 없는 구독자에게만 보내는 연결 확인 표시
+    private static final Object HEARTBEAT = new Object();
+
+    private final SeatReservationManager seatReservationManager;
+    private final long timeoutMillis;
+    private final long heartbeatNanos;
+    private final int maxSubscribers;
+    private final int maxMissedUpdates;
+    private final long slowSendNanos;
+    private final ExecutorService senders;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Long> changedLectureIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public RemainingSeatsStream(SeatReservationManager seatReservationManager,
+                                @Value("${lecture.seat-stream.timeout-ms:1800000}") long timeoutMillis,
+                                @Value("${lecture.seat-stream.heartbeat-ms:15000}") long heartbeatMillis,
+                                @Value("${lecture.seat-stream.sender-threads:4}") int senderThreads,
+                                @Value("${lecture.seat-stream.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${lecture.seat-stream.max-missed-updates:3}") int maxMissedUpdates,
+                                @Value("${lecture.seat-stream.slow-send-ms:1000}") long slowSendMillis) {
+        this.seatReservationManager = seatReservationManager;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMillis);
+        this.maxSubscribers = maxSubscribers;
+        this.maxMissedUpdates = maxMissedUpdates;
+        this.slowSendNanos = TimeUnit.MILLISECONDS.toNanos(slowSendMillis);
+        this.senders = Executors.newFixedThreadPool(senderThreads,
+                Thread.ofPlatform().name("seat-stream-sender-", 0).daemon(true).factory());
+    }
+
+    //구독 (현재 잔여 좌석을 바로 한 번 보냄)
+    public SseEmitter subscribe(Long lectureId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new LectureBusyException("잔여 좌석 알림 구독자가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        int remaining;
+        try {
+            remaining = seatReservationManager.getRemainingSeats(lectureId);
+        } catch (RuntimeException e) {
+            //없는 강의 등으로 구독하지 못하면 잡아 둔 자리를 돌려줌
+            subscriberCount.decrementAndGet();
+            throw e;
+        }
+
+        Subscriber subscriber = new Subscriber(lectureId, createEmitter(timeoutMillis));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+        subscriber.emitter.onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(lectureId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        offer(subscriber, new RemainingSeatsDto(lectureId, remaining));
+        return subscriber.emitter;
+    }
+
+    //구독자가 있는 강의만 변경 표시 (커밋 이후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void markChanged(LectureEnrollmentChangedEvent event) {
+        if (subscribers.containsKey(event.lectureId())) {
+            changedLectureIds.add(event.lectureId());
+        }
+    }
+
+    //주기마다 변경된 강의의 최신 잔여 좌석을 한 번씩만 발행
+    @Scheduled(fixedDelayString = "${lecture.seat-stream.interval-ms:500}")
+    public void publish() {
+        Iterator<Long> iterator = changedLectureIds.iterator();
+        while (iterator.hasNext()) {
+            Long lectureId = iterator.next();
+            iterator.remove();
+
+            Set<Subscriber> targets = subscribers.get(lectureId);
+            if (targets == null || targets.isEmpty()) {
+                continue;
+            }
+            RemainingSeatsDto payload = new RemainingSeatsDto(lectureId, seatReservationManager.getRemainingSeats(lectureId));
+            targets.forEach(subscriber -> offer(subscriber, payload));
+        }
+    }
+
+    //끊긴 연결을 정리하기 위한 주석 이벤트 (최근에 받은 것이 있는 구독자는 건너뜀)
+    @Scheduled(fixedDelayString = "${lecture.seat-stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            if (now - subscriber.lastSentNanos >= heartbeatNanos) {
+                offer(subscriber, HEARTBEAT);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    //테스트에서 전송 시간을 조절하는 emitter로 바꿀 수 있도록 분리
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    //구독자의 보낼 값 칸을 최신 값으로 채우고, 전송 작업이 없으면 하나 등록
+    private void offer(Subscriber subscriber, Object item) {
+        if (subscriber.removed.get()) {
+            return;
+        }
+        if (item == HEARTBEAT) {
+            //보낼 값이 이미 있으면 heartbeat는 필요 없음
+            if (!subscriber.pending.compareAndSet(null, HEARTBEAT)) {
+                return;
+            }
+        } else {
+            Object previous = subscriber.pending.getAndSet(item);
+            //보내지 못한 값을 덮어씀 = 발행 주기를 따라오지 못함
+            if (previous != null && previous != HEARTBEAT && subscriber.missedUpdates.incrementAndGet() > maxMissedUpdates) {
+                drop(subscriber);
+                return;
+            }
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                //종료 중
+                drop(subscriber);
+            }
+        }
+    }
+
+    //칸이 빌 때까지 최신 값을 보냄
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Object item = subscriber.pending.getAndSet(null);
+            if (item == null) {
+                subscriber.sending.set(false);
+                //작업을 내려놓는 사이 새 값이 들어왔으면 이어서 보냄
+                if (subscriber.pending.get() == null || !subscriber.sending.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                if (item == HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME).data(item));
+                }
+            } catch (IOException | IllegalStateException e) {
+                remove(subscriber);
+                return;
+            }
+            long finishedAt = System.nanoTime();
+            subscriber.lastSentNanos = finishedAt;
+            if (finishedAt - startedAt > slowSendNanos) {
+                drop(subscriber);
+                return;
+            }
+            if (item != HEARTBEAT) {
+                subscriber.missedUpdates.set(0);
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.lectureId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private static class Subscriber {
+        private final Long lectureId;
+        private final SseEmitter emitter;
+        //다음에 보낼 값 (잔여 좌석 또는 HEARTBEAT, 보낼 것이 없으면 null)
+        private final AtomicReference<Object> pending = new AtomicReference<>();
+        //전송 작업이 등록되었거나 실행 중
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicInteger missedUpdates = new AtomicInteger();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private volatile long lastSentNanos = System.nanoTime();
+
+        private Subscriber(Long lectureId, SseEmitter emitter) {
+            this.lectureId = lectureId;
+            this.emitter = emitter;
+        }
+    }
+}
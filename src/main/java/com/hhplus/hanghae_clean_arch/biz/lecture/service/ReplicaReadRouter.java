@@ -0,0 +1,63 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.config.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 학생 기준 조회를 replica로 보내되, 최근에 신청 상태가 바뀐 학생은 복제 지연 동안 primary에서 읽게 한다 (read-your-writes).
+ * replica 조회는 별도 풀을 쓰므로 primary 커넥션 제한(ConnectionPermitLimiter)을 거치지 않는다.
+ *
+ * 최근 변경 학생 목록은 노드별 메모리에만 있으므로 read-your-writes는 신청을 처리한 노드에서 조회할 때만 보장된다.
+ * 여러 노드로 운영할 때는 학생 기준 sticky 라우팅을 두거나, 다른 노드에서는 read-your-writes-ms 동안 복제 지연만큼 이전 값이 보일 수 있음을 감안한다.
+ *
+ * 커밋 이후 리스너 중 가장 먼저 실행해, 완료 목록 캐시 제거(CompletedLectureCacheEvictor) 직후의 조회가 replica의 이전 값을 다시 캐시하지 않게 한다.
+ */
+@Component
+public class ReplicaReadRouter {
+
+    //캐시 제거보다 먼저 기록
+    public static final int MARK_WRITTEN_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private final ConnectionPermitLimiter connectionPermitLimiter;
+    private final boolean replicaEnabled;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReplicaReadRouter(ConnectionPermitLimiter connectionPermitLimiter,
+                             @Value("${lecture.read-replica.enabled:false}") boolean replicaEnabled,
+                             @Value("${lecture.read-replica.read-your-writes-ms:5000}") long readYourWritesMillis) {
+        this.connectionPermitLimiter = connectionPermitLimiter;
+        this.replicaEnabled = replicaEnabled;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(readYourWritesMillis))
+                .build();
+    }
+
+    //커밋된 변경만 기록 (이 시점부터 복제 지연 동안 primary 조회)
+    @Order(MARK_WRITTEN_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void markWritten(LectureEnrollmentChangedEvent event) {
+        if (replicaEnabled && event.studentId() != null) {
+            recentWriters.put(event.studentId(), Boolean.TRUE);
+        }
+    }
+
+    public <T> T read(Long studentId, Supplier<T> query) {
+        if (!replicaEnabled) {
+            return connectionPermitLimiter.execute(query);
+        }
+        if (recentWriters.getIfPresent(studentId) != null) {
+            return connectionPermitLimiter.execute(() -> ReadWriteRoutingDataSource.onPrimary(query));
+        }
+        return query.get();
+    }
+}
@@ -0,0 +1,289 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureHistory;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureStudentId;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 강의별 잔여 좌석과 신청 학생을 메모리에 유지하는 좌석 선점기.
+ * DB 락을 잡기 전에 정원 초과/중복 신청을 걸러내고, 선점에 성공한 요청만 DB 저장 단계로 보낸다.
+ * 최종 판단은 여전히 DB가 하며, 메모리 상태는 기동 시(장애 후 재기동 포함)와 DB가 정원 초과로 거절했을 때 DB 기준으로 다시 맞춘다.
+ *
+ * 다른 노드의 취소/승격은 메모리에 반영되지 않으므로, 메모리 기준으로 거절하기 전에 DB를 다시 확인한다.
+ * - 잔여 좌석 0: 강의별로 resync-ms에 한 번만 DB의 잔여 좌석을 읽어, 진행 중인 선점을 뺀 값으로 맞춘다. (매진 강의에 요청이 몰려도 DB 조회는 주기당 한 번)
+ * - 중복 신청: 이 노드에서 진행 중인 선점이 아니면 DB의 신청 상태를 확인하고, 취소된 신청이면 메모리에서 지우고 선점을 계속한다.
+ */
+@Component
+public class SeatReservationManager {
+
+    private final LectureRepository lectureRepository;
+    private final LectureHistoryRepository lectureHistoryRepository;
+    private final LectureSeatSlotManager lectureSeatSlotManager;
+    private final EnrollmentMetrics enrollmentMetrics;
+    private final boolean enabled;
+    private final long resyncNanos;
+
+    //warmUp에서 통째로 교체
+    private volatile Map<Long, SeatState> states = new ConcurrentHashMap<>();
+
+    public SeatReservationManager(LectureRepository lectureRepository,
+                                  LectureHistoryRepository lectureHistoryRepository,
+                                  LectureSeatSlotManager lectureSeatSlotManager,
+                                  EnrollmentMetrics enrollmentMetrics,
+                                  @Value("${lecture.reservation.enabled:true}") boolean enabled,
+                                  @Value("${lecture.reservation.resync-ms:1000}") long resyncMillis) {
+        this.lectureRepository = lectureRepository;
+        this.lectureHistoryRepository = lectureHistoryRepository;
+        this.lectureSeatSlotManager = lectureSeatSlotManager;
+        this.enrollmentMetrics = enrollmentMetrics;
+        this.enabled = enabled;
+        this.resyncNanos = TimeUnit.MILLISECONDS.toNanos(resyncMillis);
+    }
+
+    //선점기를 끈 경우 잔여 좌석 조회가 DB 조회가 됨
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    //기동 시 DB 기준으로 전체 강의의 좌석 상태를 적재 (강의/슬롯 합계/신청 학생 세 번의 조회로 만든 뒤 한 번에 교체)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        List<Lecture> lectures = lectureRepository.findAll();
+        Map<Long, Integer> enrollments = lectureSeatSlotManager.getCurrentEnrollments(lectures);
+
+        Map<Long, SeatState> loaded = new ConcurrentHashMap<>();
+        for (Lecture lecture : lectures) {
+            loaded.put(lecture.getId(), new SeatState(Math.max(lecture.getCapacity() - enrollments.get(lecture.getId()), 0)));
+        }
+        for (LectureStudentId applied : lectureHistoryRepository.findLectureStudentIdsByStatus(ApplicationStatus.APPLIED)) {
+            SeatState state = loaded.get(applied.lectureId());
+            if (state != null) {
+                state.studentIds.add(applied.studentId());
+            }
+        }
+        //적재 중에도 요청은 이전 상태로 처리하고, 비워 두는 순간 없이 교체
+        states = loaded;
+    }
+
+    //좌석 선점: 중복 신청 확인 후 잔여 좌석을 CAS로 1 감소 (메모리 기준으로 거절되면 DB를 다시 확인)
+    public void reserve(Long lectureId, Long studentId) {
+        if (!enabled) {
+            return;
+        }
+        SeatState state = stateOf(lectureId);
+
+        //같은 학생의 동시 선점은 진행 중인 선점으로 거절하고, 이미 신청 중으로 알고 있던 학생은 DB에서 취소되었는지 확인
+        if (studentId != null && (!state.pendingStudentIds.add(studentId)
+                || !state.studentIds.add(studentId) && isAppliedInDb(lectureId, studentId, state))) {
+            enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.DUPLICATE, lectureId);
+            throw new DuplicateApplicationException();
+        }
+
+        if (!state.tryDecrement() && !(resyncIfDue(lectureId, state, studentId) && state.tryDecrement())) {
+            if (studentId != null) {
+                state.pendingStudentIds.remove(studentId);
+                state.studentIds.remove(studentId);
+            }
+            enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lectureId);
+            throw new LectureFullException();
+        }
+    }
+
+    //선점한 신청이 DB에 커밋됨 (이후 DB 잔여 좌석에 포함되므로 진행 중인 선점에서 제외)
+    public void confirm(Long lectureId, Long studentId) {
+        if (!enabled || studentId == null) {
+            return;
+        }
+        SeatState state = states.get(lectureId);
+        if (state != null) {
+            state.pendingStudentIds.remove(studentId);
+        }
+    }
+
+    //DB 저장 실패 등으로 선점을 되돌림
+    public void release(Long lectureId, Long studentId) {
+        if (!enabled) {
+            return;
+        }
+        SeatState state = states.get(lectureId);
+        if (state == null) {
+            return;
+        }
+        if (studentId != null) {
+            state.pendingStudentIds.remove(studentId);
+            state.studentIds.remove(studentId);
+        }
+        state.remaining.incrementAndGet();
+    }
+
+    //취소 반영: 대기자가 승격되었으면 좌석 수는 그대로 두고 학생만 교체
+    public void cancel(Long lectureId, Long studentId, Long promotedStudentId) {
+        if (!enabled) {
+            return;
+        }
+        SeatState state = states.get(lectureId);
+        if (state == null) {
+            return;
+        }
+        state.studentIds.remove(studentId);
+        if (promotedStudentId != null) {
+            state.studentIds.add(promotedStudentId);
+        } else {
+            state.remaining.incrementAndGet();
+        }
+    }
+
+    //선점 없이 커밋된 신청(일괄 신청 등)을 메모리 상태에 반영 (진행 중인 선점은 유지)
+    public void markApplied(Long lectureId, Collection<Long> studentIds) {
+        if (!enabled) {
+            return;
+        }
+        SeatState state = states.get(lectureId);
+        if (state == null) {
+            //아직 적재 전이면 첫 요청 시 DB 기준으로 적재됨
+            return;
+        }
+        for (Long studentId : studentIds) {
+            if (state.studentIds.add(studentId)) {
+                state.remaining.updateAndGet(remaining -> Math.max(remaining - 1, 0));
+            }
+        }
+    }
+
+    /**
+     * DB에서 정원 초과로 거절된 선점을 정리한다.
+     * 메모리가 DB보다 좌석을 많이 보고 있었다는 뜻이므로 좌석은 돌려주지 않고, DB 기준 잔여 좌석보다 많으면 그 값으로 낮춘다.
+     * (아직 커밋되지 않은 다른 선점은 DB 값에 없으므로 DB 값으로 덮어쓰지 않고 더 작은 쪽을 택함)
+     */
+    public void rejectByCapacity(Long lectureId, Long studentId) {
+        if (!enabled) {
+            return;
+        }
+        SeatState state = states.get(lectureId);
+        if (state == null) {
+            return;
+        }
+        if (studentId != null) {
+            state.pendingStudentIds.remove(studentId);
+            state.studentIds.remove(studentId);
+        }
+        int remainingInDb = lectureRepository.findById(lectureId)
+                .map(lecture -> Math.max(lecture.getCapacity() - lectureSeatSlotManager.getCurrentEnrollment(lecture), 0))
+                .orElse(0);
+        state.remaining.accumulateAndGet(remainingInDb, Math::min);
+    }
+
+    //잔여 좌석 (선점기를 끈 경우 DB 기준, 0이면 resync-ms마다 DB에서 다시 확인)
+    public int getRemainingSeats(Long lectureId) {
+        if (!enabled) {
+            Lecture lecture = lectureRepository.findById(lectureId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 강의를 찾을 수 없습니다."));
+            return Math.max(lecture.getCapacity() - lectureSeatSlotManager.getCurrentEnrollment(lecture), 0);
+        }
+        SeatState state = stateOf(lectureId);
+        if (state.remaining.get() <= 0) {
+            resyncIfDue(lectureId, state, null);
+        }
+        return state.remaining.get();
+    }
+
+    /**
+     * 메모리 잔여 좌석이 0일 때 다른 노드의 취소로 DB에 좌석이 났는지 확인한다. (강의별로 resync-ms에 한 번만 조회)
+     * DB 잔여 좌석에서 아직 커밋되지 않은 이 노드의 선점 수(지금 선점 중인 학생 제외)를 빼서 맞추며, 좌석이 생겼으면 true.
+     */
+    private boolean resyncIfDue(Long lectureId, SeatState state, Long reservingStudentId) {
+        long now = System.nanoTime();
+        long syncedAt = state.syncedAt.get();
+        if (now - syncedAt < resyncNanos || !state.syncedAt.compareAndSet(syncedAt, now)) {
+            return false;
+        }
+        int remainingInDb = lectureRepository.findById(lectureId)
+                .map(lecture -> Math.max(lecture.getCapacity() - lectureSeatSlotManager.getCurrentEnrollment(lecture), 0))
+                .orElse(0);
+        int pending = state.pendingStudentIds.size() - (reservingStudentId != null && state.pendingStudentIds.contains(reservingStudentId) ? 1 : 0);
+        int resynced = Math.max(remainingInDb - pending, 0);
+        return state.remaining.accumulateAndGet(resynced, Math::max) > 0;
+    }
+
+    /**
+     * 메모리에는 신청 중으로 남아 있는 학생이 DB에서도 신청 중인지 확인한다.
+     * 다른 노드에서 취소했으면 false를 반환하고 이번 선점이 그 학생 자리를 이어받는다.
+     */
+    private boolean isAppliedInDb(Long lectureId, Long studentId, SeatState state) {
+        boolean applied = lectureHistoryRepository.findByLectureIdAndStudentId(lectureId, studentId)
+                .map(LectureHistory::getStatus)
+                .filter(status -> status == ApplicationStatus.APPLIED)
+                .isPresent();
+        if (applied) {
+            state.pendingStudentIds.remove(studentId);
+        }
+        return applied;
+    }
+
+    private SeatState stateOf(Long lectureId) {
+        Map<Long, SeatState> current = states;
+        SeatState state = current.get(lectureId);
+        if (state != null) {
+            return state;
+        }
+        //기동 이후 생성된 강의는 첫 요청 시 DB에서 적재 (조회는 맵 잠금 밖에서, 먼저 넣은 쪽을 사용)
+        SeatState loaded = load(lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 강의를 찾을 수 없습니다.")));
+        SeatState existing = current.putIfAbsent(lectureId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private SeatState load(Lecture lecture) {
+        //카운터 슬롯을 쓰는 강의는 슬롯 합계 기준
+        SeatState state = new SeatState(Math.max(lecture.getCapacity() - lectureSeatSlotManager.getCurrentEnrollment(lecture), 0));
+        state.studentIds.addAll(lectureHistoryRepository.findStudentIdsByLectureIdAndStatus(lecture.getId(), ApplicationStatus.APPLIED));
+        return state;
+    }
+
+    private static class SeatState {
+        private final AtomicInteger remaining;
+        //신청 중인 학생 (DB에 커밋된 학생 + 진행 중인 선점)
+        private final Set<Long> studentIds = ConcurrentHashMap.newKeySet();
+        //선점 후 아직 DB에 커밋되지 않은 학생
+        private final Set<Long> pendingStudentIds = ConcurrentHashMap.newKeySet();
+        //마지막으로 DB에서 잔여 좌석을 맞춘 시각 (적재 시각으로 시작)
+        private final AtomicLong syncedAt = new AtomicLong(System.nanoTime());
+
+        private SeatState(int remaining) {
+            this.remaining = new AtomicInteger(remaining);
+        }
+
+        //잔여 좌석이 0 미만으로 내려가지 않도록 CAS 루프로 감소
+        private boolean tryDecrement() {
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+}
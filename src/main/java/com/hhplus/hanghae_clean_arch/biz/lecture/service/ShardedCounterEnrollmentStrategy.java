@@ -0,0 +1,55 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ShardedCounterEnrollmentStrategy implements EnrollmentConcurrencyStrategy {
+
+    //재분배 직후 다른 요청이 옮겨온 정원을 먼저 가져가는 경우를 위한 시도 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final LectureService lectureService;
+    private final LectureSeatSlotManager lectureSeatSlotManager;
+    private final EnrollmentMetrics enrollmentMetrics;
+
+    public ShardedCounterEnrollmentStrategy(LectureService lectureService,
+                                            LectureSeatSlotManager lectureSeatSlotManager,
+                                            EnrollmentMetrics enrollmentMetrics) {
+        this.lectureService = lectureService;
+        this.lectureSeatSlotManager = lectureSeatSlotManager;
+        this.enrollmentMetrics = enrollmentMetrics;
+    }
+
+    @Override
+    public EnrollmentStrategyType type() {
+        return EnrollmentStrategyType.SHARDED_COUNTER;
+    }
+
+    //슬롯 단위로 갱신하므로 같은 강의도 병렬로 처리
+    @Override
+    public boolean contendsOnLectureRow() {
+        return false;
+    }
+
+    @Override
+    public void apply(Long lectureId, Student student) {
+        int slotNo = lectureSeatSlotManager.slotOf(student, lectureSeatSlotManager.slotCountOf(lectureId));
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                enrollmentMetrics.incrementRetry(type(), lectureId);
+            }
+            if (lectureService.applyLectureWithSeatSlot(lectureId, slotNo, student)) {
+                return;
+            }
+            //슬롯이 소진되면 다른 슬롯의 정원을 옮겨온 뒤 다시 시도
+            if (!lectureSeatSlotManager.refill(lectureId, slotNo)) {
+                enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, lectureId);
+                throw new LectureFullException();
+            }
+        }
+        throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,77 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureSoldOutEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매진된 강의 목록. 매진된 강의의 신청은 커넥션/락 없이 메모리 조회만으로 거절한다.
+ *
+ * - 이 노드: 마지막 좌석이 채워진 커밋 직후(또는 DB가 정원 초과로 거절한 즉시) 등록하고, 취소 커밋 직후 해제한다.
+ * - 다른 노드: poll-ms마다 DB 기준 매진 목록으로 통째로 교체해 반영한다 (pub/sub 대신 DB polling).
+ *
+ * 교체 시점과 겹친 등록/해제는 다음 교체 때 바로잡히므로, 어긋나더라도 최대 poll-ms 동안 DB 조회가 한 번 더 일어나거나
+ * 빈 좌석이 늦게 열릴 뿐 정원 판단 자체는 항상 DB가 한다.
+ */
+@Component
+public class SoldOutRegistry {
+
+    private final LectureRepository lectureRepository;
+    private final LectureSeatSlotRepository lectureSeatSlotRepository;
+    private final boolean enabled;
+
+    private volatile Set<Long> soldOutLectureIds = ConcurrentHashMap.newKeySet();
+
+    public SoldOutRegistry(LectureRepository lectureRepository,
+                           LectureSeatSlotRepository lectureSeatSlotRepository,
+                           @Value("${lecture.sold-out.enabled:true}") boolean enabled) {
+        this.lectureRepository = lectureRepository;
+        this.lectureSeatSlotRepository = lectureSeatSlotRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isSoldOut(Long lectureId) {
+        return enabled && soldOutLectureIds.contains(lectureId);
+    }
+
+    public void markSoldOut(Long lectureId) {
+        if (enabled) {
+            soldOutLectureIds.add(lectureId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSoldOut(LectureSoldOutEvent event) {
+        markSoldOut(event.lectureId());
+    }
+
+    //취소로 좌석이 나면 다시 열고, 대기자가 승격되어 그 좌석을 채우면 다시 매진
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(LectureEnrollmentChangedEvent event) {
+        if (event.changeType() == LectureEnrollmentChangedEvent.ChangeType.CANCELED) {
+            soldOutLectureIds.remove(event.lectureId());
+        } else if (event.changeType() == LectureEnrollmentChangedEvent.ChangeType.PROMOTED) {
+            markSoldOut(event.lectureId());
+        }
+    }
+
+    //DB 기준 매진 목록으로 교체 (다른 노드의 매진/취소 반영)
+    @Scheduled(fixedDelayString = "${lecture.sold-out.poll-ms:500}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        Set<Long> latest = ConcurrentHashMap.newKeySet();
+        latest.addAll(lectureRepository.findFullLectureIds());
+        latest.addAll(lectureSeatSlotRepository.findFullLectureIds());
+        soldOutLectureIds = latest;
+    }
+}
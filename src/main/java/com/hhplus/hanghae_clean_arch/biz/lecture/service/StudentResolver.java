@@ -0,0 +1,106 @@
+package com.hhplus.hanghae_clean_arch.biz.lecture.service;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 신청 전에 강의 락 밖에서 학생을 확정한다.
+ * 학생은 외부 id로 캐시 → DB 조회 → 최초 1회 등록 순으로 찾으므로, 같은 신청자는 항상 같은 학생 id로 신청되어 중복 신청이 걸러진다.
+ * 외부 id 없는 신청은 이름만으로는 같은 사람인지 알 수 없으므로 (동명이인) 매번 새 학생으로 등록한다.
+ */
+@Component
+public class StudentResolver {
+
+    private static final String EXTERNAL_ID_KEY = "external:";
+
+    private final StudentRepository studentRepository;
+    private final CacheManager cacheManager;
+
+    public StudentResolver(StudentRepository studentRepository, CacheManager cacheManager) {
+        this.studentRepository = studentRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    //학생의 자연키 (외부 id가 없으면 null)
+    public static String naturalKey(Student student) {
+        return student.getExternalId() == null ? null : EXTERNAL_ID_KEY + student.getExternalId();
+    }
+
+    //외부 id 없이 이름만 있는 신청 (항상 새 학생으로 등록)
+    public static boolean isAnonymous(Student student) {
+        return student.getExternalId() == null && student.getName() != null && !student.getName().isBlank();
+    }
+
+    //id가 확정된 학생 반환 (전달받은 학생에 id를 채움)
+    public Student resolve(Student student) {
+        if (student.getId() != null) {
+            return student;
+        }
+        if (isAnonymous(student)) {
+            student.setId(register(student));
+            return student;
+        }
+        String key = naturalKey(student);
+        if (key == null) {
+            throw new IllegalArgumentException("학생 정보가 필요합니다.");
+        }
+
+        //같은 자연키의 동시 요청은 캐시에서 한 번만 조회/등록
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENT_IDS);
+        Long studentId = cache == null
+                ? findOrRegister(student)
+                : cache.get(key, () -> findOrRegister(student));
+        student.setId(studentId);
+        return student;
+    }
+
+    /**
+     * 일괄 신청용: 이미 등록된 학생 id를 외부 id 자연키별로 한 번에 조회한다. (등록은 하지 않음)
+     * 호출한 트랜잭션 안에서 실행되며, 신규 학생은 신청이 받아들여진 뒤 registerAll로 등록한다.
+     */
+    public Map<String, Long> findRegisteredIds(Collection<Student> students) {
+        List<String> externalIds = students.stream().map(Student::getExternalId).filter(Objects::nonNull).distinct().toList();
+
+        Map<String, Long> ids = new HashMap<>();
+        if (!externalIds.isEmpty()) {
+            studentRepository.findAllByExternalIdIn(externalIds).forEach(found -> ids.put(naturalKey(found), found.getId()));
+        }
+        return ids;
+    }
+
+    //일괄 신청용: 신규 학생을 한 번에 등록 (호출한 트랜잭션과 함께 커밋/롤백)
+    public void registerAll(Collection<Student> students) {
+        studentRepository.saveAll(students);
+    }
+
+    private Long findOrRegister(Student student) {
+        return studentRepository.findIdByExternalId(student.getExternalId())
+                .orElseGet(() -> register(student));
+    }
+
+    private Long register(Student student) {
+        Student created = new Student();
+        created.setExternalId(student.getExternalId());
+        created.setName(student.getName());
+        try {
+            return studentRepository.saveAndFlush(created).getId();
+        } catch (DataIntegrityViolationException e) {
+            //다른 서버가 먼저 등록한 경우 (외부 id 유니크 제약)
+            if (student.getExternalId() == null) {
+                throw e;
+            }
+            return studentRepository.findIdByExternalId(student.getExternalId()).orElseThrow(() -> e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.hhplus.hanghae_clean_arch.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정 (Caffeine, 크기/만료 정책은 spring.cache.caffeine.spec)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    //학생별 완료된 특강 목록
+    public static final String COMPLETED_LECTURES = "completedLectures";
+
+    //외부 id별 학생 id
+    public static final String STUDENT_IDS = "studentIds";
+}
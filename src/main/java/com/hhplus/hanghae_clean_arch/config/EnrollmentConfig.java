@@ -0,0 +1,9 @@
+package com.hhplus.hanghae_clean_arch.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EnrollmentStrategyProperties.class)
+public class EnrollmentConfig {
+}
@@ -0,0 +1,19 @@
+package com.hhplus.hanghae_clean_arch.config;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 신청 동시성 제어 방식 설정 (기본 방식 + 강의 id별 지정)
+ */
+@ConfigurationProperties(prefix = "lecture.enrollment")
+public record EnrollmentStrategyProperties(@DefaultValue("PESSIMISTIC") EnrollmentStrategyType strategy,
+                                           Map<Long, EnrollmentStrategyType> lectureStrategies) {
+
+    public EnrollmentStrategyProperties {
+        lectureStrategies = lectureStrategies == null ? Map.of() : lectureStrategies;
+    }
+}
@@ -0,0 +1,12 @@
+package com.hhplus.hanghae_clean_arch.exception;
+
+/**
+ * 대기열 운영 중에 입장이 허가된 토큰 없이 신청했을 때 발생 (400으로 응답)
+ * 새 토큰으로 다시 신청할 수 있는 실패이므로 Idempotency-Key 결과로 저장하지 않도록 일반 IllegalStateException과 구분한다.
+ */
+public class AdmissionRequiredException extends IllegalStateException {
+
+    public AdmissionRequiredException() {
+        super("입장이 허가된 대기열 토큰이 필요합니다.");
+    }
+}
@@ -0,0 +1,38 @@
+package com.hhplus.hanghae_clean_arch.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * DB 제약 위반이 특정 유니크 제약 때문인지 확인 (중복 신청/대기 판정용)
+ *
+ * 제약 이름은 DB마다 표기가 달라 비교 전에 정규화한다.
+ * - MariaDB: 키 이름 그대로 (uk_lecture_history_lecture_student)
+ * - H2: 스키마와 인덱스 번호가 붙음 (PUBLIC.UK_LECTURE_HISTORY_LECTURE_STUDENT_INDEX_A)
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    //원인이 constraintName 제약 위반일 때만 true (이름을 알 수 없는 위반은 false)
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        Throwable cause = e.getCause();
+        while (cause != null && !(cause instanceof ConstraintViolationException)) {
+            cause = cause.getCause();
+        }
+        if (!(cause instanceof ConstraintViolationException violation) || violation.getConstraintName() == null) {
+            return false;
+        }
+        return normalize(violation.getConstraintName()).equals(constraintName.toLowerCase(Locale.ROOT));
+    }
+
+    private static String normalize(String name) {
+        String normalized = name.replace("\"", "").replace("`", "").toLowerCase(Locale.ROOT);
+        normalized = normalized.substring(normalized.lastIndexOf('.') + 1);
+        int index = normalized.indexOf("_index_");
+        return index < 0 ? normalized : normalized.substring(0, index);
+    }
+}
@@ -0,0 +1,12 @@
+package com.hhplus.hanghae_clean_arch.exception;
+
+/**
+ * 같은 강의에 이미 신청 기록이 있을 때 발생 (400으로 응답)
+ * 취소했던 신청의 재신청 여부를 판단할 수 있도록 일반 IllegalStateException과 구분한다.
+ */
+public class DuplicateApplicationException extends IllegalStateException {
+
+    public DuplicateApplicationException() {
+        super("이미 신청된 강의입니다.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.hhplus.hanghae_clean_arch.exception;
+
+/**
+ * 처리 대기열이 가득 차 요청을 받을 수 없을 때 발생 (429로 응답)
+ */
+public class LectureBusyException extends RuntimeException {
+
+    public LectureBusyException(String message) {
+        super(message);
+    }
+}
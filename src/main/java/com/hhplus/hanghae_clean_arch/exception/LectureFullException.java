@@ -0,0 +1,12 @@
+package com.hhplus.hanghae_clean_arch.exception;
+
+/**
+ * 강의 정원이 모두 찼을 때 발생 (400으로 응답)
+ * 매진 등록(SoldOutRegistry)에 반영할 수 있도록 일반 IllegalStateException과 구분한다.
+ */
+public class LectureFullException extends IllegalStateException {
+
+    public LectureFullException() {
+        super("강의 정원이 초과되었습니다.");
+    }
+}
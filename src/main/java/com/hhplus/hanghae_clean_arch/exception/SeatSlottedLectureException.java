@@ -0,0 +1,12 @@
+package com.hhplus.hanghae_clean_arch.exception;
+
+/**
+ * 카운터 슬롯으로 신청 인원을 관리하는 강의를 Lecture 행 기준 방식으로 신청하려 할 때 발생 (400으로 응답)
+ * 퍼사드는 이 예외를 받으면 SHARDED_COUNTER 방식으로 다시 신청한다.
+ */
+public class SeatSlottedLectureException extends IllegalStateException {
+
+    public SeatSlottedLectureException() {
+        super("카운터 슬롯으로 신청 인원을 관리하는 강의입니다.");
+    }
+}
@@ -0,0 +1,127 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.QueueTokenStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.QueueTicketResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.AdmissionQueueManager;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SeatReservationManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionQueueManagerTest {
+
+    @Mock
+    private SeatReservationManager seatReservationManager;
+
+    private AdmissionQueueManager admissionQueueManager;
+
+    @BeforeEach
+    void setUp() {
+        //초당 20명, 100ms 주기 -> 주기당 2명 입장
+        admissionQueueManager = new AdmissionQueueManager(seatReservationManager, true, 20, 100, 30, 300);
+        lenient().when(seatReservationManager.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("주기마다 정해진 수만큼 순서대로 입장 허가한다")
+    void admit_AdmitsInOrder() {
+        //given
+        when(seatReservationManager.getRemainingSeats(1L)).thenReturn(10);
+        QueueTicketResponseDto first = admissionQueueManager.enter(1L);
+        QueueTicketResponseDto second = admissionQueueManager.enter(1L);
+        QueueTicketResponseDto third = admissionQueueManager.enter(1L);
+        assertEquals(2, third.getPosition());
+
+        //when
+        admissionQueueManager.admit();
+
+        //then
+        assertEquals(QueueTokenStatus.ADMITTED, admissionQueueManager.status(first.getToken()).getStatus());
+        assertEquals(QueueTokenStatus.ADMITTED, admissionQueueManager.status(second.getToken()).getStatus());
+        QueueTicketResponseDto waiting = admissionQueueManager.status(third.getToken());
+        assertEquals(QueueTokenStatus.WAITING, waiting.getStatus());
+        assertEquals(0, waiting.getPosition());
+    }
+
+    @Test
+    @DisplayName("입장 허가된 토큰은 한 번만 사용할 수 있다")
+    void consume_OnlyOnce() {
+        //given
+        when(seatReservationManager.getRemainingSeats(1L)).thenReturn(10);
+        QueueTicketResponseDto ticket = admissionQueueManager.enter(1L);
+        assertThrows(IllegalStateException.class, () -> admissionQueueManager.consume(ticket.getToken(), 1L));
+        admissionQueueManager.admit();
+
+        //when
+        admissionQueueManager.consume(ticket.getToken(), 1L);
+
+        //then
+        assertEquals(QueueTokenStatus.USED, admissionQueueManager.status(ticket.getToken()).getStatus());
+        assertThrows(IllegalStateException.class, () -> admissionQueueManager.consume(ticket.getToken(), 1L));
+    }
+
+    @Test
+    @DisplayName("잔여 좌석이 소진되면 대기자 전원을 종료시키고 진입을 막는다")
+    void admit_ClosesQueueWhenSoldOut() {
+        //given
+        when(seatReservationManager.getRemainingSeats(1L)).thenReturn(1, 0);
+        QueueTicketResponseDto ticket = admissionQueueManager.enter(1L);
+
+        //when
+        admissionQueueManager.admit();
+
+        //then
+        assertEquals(QueueTokenStatus.CLOSED, admissionQueueManager.status(ticket.getToken()).getStatus());
+        assertThrows(IllegalStateException.class, () -> admissionQueueManager.enter(1L));
+    }
+
+    @Test
+    @DisplayName("대기자가 없는 강의는 잔여 좌석을 조회하지 않고 대기열을 정리한다")
+    void admit_RemovesIdleQueue() {
+        //given
+        when(seatReservationManager.getRemainingSeats(1L)).thenReturn(10);
+        QueueTicketResponseDto ticket = admissionQueueManager.enter(1L);
+        admissionQueueManager.admit();
+        admissionQueueManager.consume(ticket.getToken(), 1L);
+
+        //when
+        admissionQueueManager.admit();
+        admissionQueueManager.admit();
+
+        //then (진입 1번 + 대기자가 있던 첫 주기 1번)
+        verify(seatReservationManager, times(2)).getRemainingSeats(1L);
+        assertEquals(QueueTokenStatus.USED, admissionQueueManager.status(ticket.getToken()).getStatus());
+
+        //정리된 뒤에도 새로 진입 가능
+        QueueTicketResponseDto next = admissionQueueManager.enter(1L);
+        assertEquals(0, next.getPosition());
+        admissionQueueManager.admit();
+        assertEquals(QueueTokenStatus.ADMITTED, admissionQueueManager.status(next.getToken()).getStatus());
+    }
+
+    @Test
+    @DisplayName("좌석 선점기를 끈 경우 진입 시에는 DB를 조회하지 않고, 입장 주기에서 한 번만 확인한다")
+    void enter_ReservationDisabled_SkipsDbQuery() {
+        //given
+        when(seatReservationManager.isEnabled()).thenReturn(false);
+        when(seatReservationManager.getRemainingSeats(1L)).thenReturn(0);
+
+        //when
+        QueueTicketResponseDto first = admissionQueueManager.enter(1L);
+        QueueTicketResponseDto second = admissionQueueManager.enter(1L);
+        verify(seatReservationManager, never()).getRemainingSeats(1L);
+        admissionQueueManager.admit();
+
+        //then
+        verify(seatReservationManager, times(1)).getRemainingSeats(1L);
+        assertEquals(QueueTokenStatus.CLOSED, admissionQueueManager.status(first.getToken()).getStatus());
+        assertEquals(QueueTokenStatus.CLOSED, admissionQueueManager.status(second.getToken()).getStatus());
+    }
+}
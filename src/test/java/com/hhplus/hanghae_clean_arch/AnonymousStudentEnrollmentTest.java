@@ -0,0 +1,85 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.BulkEnrollmentItem;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentResultDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2로 외부 id 없는 동명이인이 서로 다른 학생으로 각각 신청되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class AnonymousStudentEnrollmentTest {
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureApplicationFacade lectureApplicationFacade;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("외부 id 없는 동명이인 두 명이 같은 강의에 신청하면 둘 다 신청된다")
+    void applyLecture_SameNameApplicantsBothEnroll() {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("동명이인 특강", "김강사", 10, LocalDateTime.now()));
+        Student first = anonymous("홍길동");
+        Student second = anonymous("홍길동");
+
+        //when
+        lectureApplicationFacade.applyLecture(lecture.getId(), first);
+        lectureApplicationFacade.applyLecture(lecture.getId(), second);
+
+        //then
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(2, lectureRepository.findById(lecture.getId()).orElseThrow().getCurrentEnrollment());
+        assertEquals(2, historyCount(lecture.getId()));
+    }
+
+    @Test
+    @DisplayName("일괄 신청에서도 외부 id 없는 동명이인은 각각 새 학생으로 신청된다")
+    void bulkApply_SameNameApplicantsBothEnroll() {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("동명이인 일괄 특강", "김강사", 10, LocalDateTime.now()));
+
+        //when
+        List<BulkEnrollmentResultDto> results = lectureService.bulkApplyLectures(List.of(
+                new BulkEnrollmentItem(lecture.getId(), anonymous("김철수")),
+                new BulkEnrollmentItem(lecture.getId(), anonymous("김철수"))));
+
+        //then
+        assertTrue(results.stream().allMatch(BulkEnrollmentResultDto::isApplied));
+        assertNotEquals(results.get(0).getStudentId(), results.get(1).getStudentId());
+        assertEquals(2, historyCount(lecture.getId()));
+    }
+
+    private Student anonymous(String name) {
+        Student student = new Student();
+        student.setName(name);
+        return student;
+    }
+
+    private int historyCount(Long lectureId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lecture_history WHERE lecture_id = ?", Integer.class, lectureId);
+    }
+}
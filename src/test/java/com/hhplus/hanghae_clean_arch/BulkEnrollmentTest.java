@@ -0,0 +1,88 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.BulkEnrollmentItem;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentResultDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2로 일괄 신청이 받아들여진 항목의 신규 학생만 저장하는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class BulkEnrollmentTest {
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("정원 초과나 없는 강의로 거절된 신규 학생은 저장되지 않는다")
+    void bulkApply_RejectedItemsLeaveNoStudents() {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("일괄 특강", "김강사", 2, LocalDateTime.now()));
+        long studentsBefore = studentRepository.count();
+
+        //when
+        List<BulkEnrollmentResultDto> results = lectureService.bulkApplyLectures(List.of(
+                new BulkEnrollmentItem(lecture.getId(), newStudent("bulk-1")),
+                new BulkEnrollmentItem(lecture.getId(), newStudent("bulk-2")),
+                new BulkEnrollmentItem(lecture.getId(), newStudent("bulk-3")), // 정원 초과
+                new BulkEnrollmentItem(-1L, newStudent("bulk-4"))));            // 없는 강의
+
+        //then
+        assertEquals(List.of(true, true, false, false), results.stream().map(BulkEnrollmentResultDto::isApplied).toList());
+        assertEquals(studentsBefore + 2, studentRepository.count());
+        assertTrue(studentRepository.findIdByExternalId("bulk-3").isEmpty());
+        assertTrue(studentRepository.findIdByExternalId("bulk-4").isEmpty());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM lecture_history WHERE lecture_id = ?", Integer.class, lecture.getId()));
+    }
+
+    @Test
+    @DisplayName("같은 신규 학생이 여러 강의에 받아들여져도 학생은 한 번만 저장된다")
+    void bulkApply_RegistersNewStudentOnce() {
+        //given
+        Lecture first = lectureRepository.saveAndFlush(new Lecture("일괄 특강A", "김강사", 5, LocalDateTime.now()));
+        Lecture second = lectureRepository.saveAndFlush(new Lecture("일괄 특강B", "김강사", 5, LocalDateTime.now()));
+
+        //when
+        List<BulkEnrollmentResultDto> results = lectureService.bulkApplyLectures(List.of(
+                new BulkEnrollmentItem(first.getId(), newStudent("bulk-shared")),
+                new BulkEnrollmentItem(second.getId(), newStudent("bulk-shared"))));
+
+        //then
+        Long studentId = studentRepository.findIdByExternalId("bulk-shared").orElseThrow();
+        assertTrue(results.stream().allMatch(BulkEnrollmentResultDto::isApplied));
+        assertTrue(results.stream().allMatch(result -> studentId.equals(result.getStudentId())));
+    }
+
+    private Student newStudent(String externalId) {
+        Student student = new Student();
+        student.setName("학생 " + externalId);
+        student.setExternalId(externalId);
+        return student;
+    }
+}
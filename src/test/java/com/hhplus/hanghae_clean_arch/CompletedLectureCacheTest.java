@@ -0,0 +1,115 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryJdbcRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRow;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.config.CacheConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2로 완료 목록 캐시의 적중, 신청 커밋 시 제거, 신청 직후 조회를 검증
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class CompletedLectureCacheTest {
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LectureHistoryJdbcRepository lectureHistoryJdbcRepository;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureApplicationFacade lectureApplicationFacade;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB가 아니라 캐시에서 읽는다")
+    void getCompletedLectures_CacheHit() {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("캐시 특강", "김강사", 10, LocalDateTime.now()));
+        Student student = studentRepository.saveAndFlush(newStudent("cache-hit"));
+        assertTrue(lectureApplicationFacade.getCompletedLecturesByUserId(student.getId()).isEmpty());
+
+        //이벤트 없이 DB에만 신청 내역 추가 (캐시는 그대로)
+        lectureHistoryJdbcRepository.insertAll(List.of(
+                new LectureHistoryRow(lecture.getId(), student.getId(), LocalDateTime.now(), ApplicationStatus.APPLIED)));
+
+        //when
+        List<CompletedLectureResponseDto> result = lectureApplicationFacade.getCompletedLecturesByUserId(student.getId());
+
+        //then
+        assertTrue(result.isEmpty());
+        assertNotNull(cacheManager.getCache(CacheConfig.COMPLETED_LECTURES).get(student.getId()));
+    }
+
+    @Test
+    @DisplayName("신청이 커밋되면 그 학생의 캐시가 제거된다")
+    void applyLecture_EvictsOnCommit() {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("캐시 특강", "김강사", 10, LocalDateTime.now()));
+        Student student = studentRepository.saveAndFlush(newStudent("cache-evict"));
+        Student other = studentRepository.saveAndFlush(newStudent("cache-other"));
+        lectureApplicationFacade.getCompletedLecturesByUserId(student.getId());
+        lectureApplicationFacade.getCompletedLecturesByUserId(other.getId());
+
+        //when
+        lectureService.applyLecture(lecture.getId(), student);
+
+        //then
+        assertNull(cacheManager.getCache(CacheConfig.COMPLETED_LECTURES).get(student.getId()));
+        assertNotNull(cacheManager.getCache(CacheConfig.COMPLETED_LECTURES).get(other.getId()));
+    }
+
+    @Test
+    @DisplayName("목록을 조회해 둔 학생도 신청 직후 조회하면 방금 신청한 강의가 보인다")
+    void applyLecture_ReadYourWrites() {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("캐시 특강", "김강사", 10, LocalDateTime.now()));
+        Student input = newStudent("cache-ryw");
+        lectureApplicationFacade.applyLecture(lecture.getId(), input);
+        Long studentId = studentRepository.findIdByExternalId("cache-ryw").orElseThrow();
+        assertEquals(1, lectureApplicationFacade.getCompletedLecturesByUserId(studentId).size());
+
+        Lecture next = lectureRepository.saveAndFlush(new Lecture("캐시 특강2", "김강사", 10, LocalDateTime.now()));
+
+        //when
+        lectureApplicationFacade.applyLecture(next.getId(), input);
+        List<CompletedLectureResponseDto> result = lectureApplicationFacade.getCompletedLecturesByUserId(studentId);
+
+        //then
+        assertEquals(2, result.size());
+    }
+
+    private Student newStudent(String externalId) {
+        Student student = new Student();
+        student.setName("학생 " + externalId);
+        student.setExternalId(externalId);
+        return student;
+    }
+}
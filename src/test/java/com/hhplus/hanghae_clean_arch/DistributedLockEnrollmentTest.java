@@ -0,0 +1,128 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.DistributedLockEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2로 fencing token 검증과 DISTRIBUTED_LOCK 신청 경로를 확인
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class DistributedLockEnrollmentTest {
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureHistoryRepository lectureHistoryRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private DistributedLockEnrollmentStrategy distributedLockEnrollmentStrategy;
+
+    @Test
+    @DisplayName("더 큰 fencing token으로 갱신된 강의에 이전 token으로 신청하면 거절되고 신청 기록도 롤백된다")
+    void applyLectureWithFencing_RejectsStaleToken() {
+        //given
+        Lecture lecture = lectureRepository.save(new Lecture("분산 락 특강", "김강사", 30, LocalDateTime.now().plusDays(1)));
+        Student current = saveStudent("현재 보유자");
+        Student stale = saveStudent("만료된 보유자");
+        lectureService.applyLectureWithFencing(lecture.getId(), current, 5);
+
+        //when & then
+        assertThrows(LectureBusyException.class,
+                () -> lectureService.applyLectureWithFencing(lecture.getId(), stale, 3));
+
+        Lecture updated = lectureRepository.findById(lecture.getId()).orElseThrow();
+        assertEquals(1, updated.getCurrentEnrollment());
+        assertEquals(5L, updated.getLockFence());
+        assertTrue(lectureHistoryRepository.findByLectureIdAndStudentId(lecture.getId(), stale.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("정원이 찬 강의는 최신 token이어도 정원 초과로 거절된다")
+    void applyLectureWithFencing_FullWithFreshToken() {
+        //given
+        Lecture lecture = lectureRepository.save(new Lecture("분산 락 특강", "김강사", 1, LocalDateTime.now().plusDays(1)));
+        lectureService.applyLectureWithFencing(lecture.getId(), saveStudent("첫 신청자"), 1);
+
+        //when & then
+        assertThrows(LectureFullException.class,
+                () -> lectureService.applyLectureWithFencing(lecture.getId(), saveStudent("늦은 신청자"), 2));
+    }
+
+    @Test
+    @DisplayName("DISTRIBUTED_LOCK 동시 신청 - 락과 fencing token으로 정원만큼만 신청된다")
+    void apply_ConcurrentRequests_NeverExceedCapacity() throws InterruptedException {
+        //given
+        int capacity = 5;
+        int threadCount = 20;
+        Lecture lecture = lectureRepository.save(new Lecture("분산 락 특강", "김강사", capacity, LocalDateTime.now().plusDays(1)));
+        Student[] students = new Student[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            students[i] = saveStudent("학생" + i);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger fullCount = new AtomicInteger();
+
+        //when
+        for (Student student : students) {
+            executorService.submit(() -> {
+                try {
+                    distributedLockEnrollmentStrategy.apply(lecture.getId(), student);
+                    successCount.incrementAndGet();
+                } catch (LectureFullException e) {
+                    fullCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        //then
+        Lecture updated = lectureRepository.findById(lecture.getId()).orElseThrow();
+        assertEquals(capacity, successCount.get());
+        assertEquals(threadCount - capacity, fullCount.get());
+        assertEquals(capacity, updated.getCurrentEnrollment());
+        assertEquals(capacity, lectureHistoryRepository.findStudentIdsByLectureIdAndStatus(lecture.getId(), ApplicationStatus.APPLIED).size());
+        assertTrue(updated.getLockFence() > 0);
+    }
+
+    private Student saveStudent(String name) {
+        Student student = new Student();
+        student.setName(name);
+        return studentRepository.save(student);
+    }
+}
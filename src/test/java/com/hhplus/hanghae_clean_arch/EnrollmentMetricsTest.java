@@ -0,0 +1,102 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentMetrics;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.OptimisticEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.PessimisticEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EnrollmentMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EnrollmentMetrics enrollmentMetrics = new EnrollmentMetrics(meterRegistry);
+    private final LectureService lectureService = mock(LectureService.class);
+
+    @Test
+    @DisplayName("단계별 히스토그램은 강의와 관계없이 단계/방식별로 하나만 만든다")
+    void recordStage_NoLectureTagOnTimers() {
+        //when
+        enrollmentMetrics.recordStage(EnrollmentMetrics.Stage.HISTORY_INSERT, EnrollmentStrategyType.PESSIMISTIC, 1_000_000);
+        enrollmentMetrics.recordStage(EnrollmentMetrics.Stage.HISTORY_INSERT, EnrollmentStrategyType.PESSIMISTIC, 3_000_000);
+        enrollmentMetrics.recordLockWait(EnrollmentStrategyType.PESSIMISTIC, 1_000_000);
+
+        //then
+        Timer historyInsert = meterRegistry.get("enrollment.stage")
+                .tag("stage", "history_insert").tag("strategy", "PESSIMISTIC").timer();
+        assertEquals(2, historyInsert.count());
+        assertEquals(4, historyInsert.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(2, meterRegistry.get("enrollment.stage").timers().size());
+        assertTrue(meterRegistry.get("enrollment.stage").timers().stream()
+                .allMatch(timer -> timer.getId().getTag("lecture") == null));
+    }
+
+    @Test
+    @DisplayName("거절 횟수는 사유와 강의별로 센다")
+    void incrementRejection_CountsPerReasonAndLecture() {
+        //when
+        enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, 1L);
+        enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.CAPACITY, 1L);
+        enrollmentMetrics.incrementRejection(EnrollmentMetrics.Rejection.DUPLICATE, 2L);
+
+        //then
+        assertEquals(2, meterRegistry.get("enrollment.rejections").tag("reason", "capacity").tag("lecture", "1").counter().count());
+        assertEquals(1, meterRegistry.get("enrollment.rejections").tag("reason", "duplicate").tag("lecture", "2").counter().count());
+    }
+
+    @Test
+    @DisplayName("낙관적 락은 버전 충돌로 다시 시도한 횟수만큼 센다")
+    void optimistic_CountsEveryRetry() {
+        //given
+        OptimisticEnrollmentStrategy strategy = new OptimisticEnrollmentStrategy(lectureService, enrollmentMetrics);
+        doThrow(new ObjectOptimisticLockingFailureException("Lecture", 1L))
+                .doThrow(new ObjectOptimisticLockingFailureException("Lecture", 1L))
+                .doNothing()
+                .when(lectureService).applyLectureWithoutLock(eq(1L), any(Student.class));
+
+        //when
+        strategy.apply(1L, new Student());
+
+        //then
+        assertEquals(2, retries(EnrollmentStrategyType.OPTIMISTIC, 1L));
+    }
+
+    @Test
+    @DisplayName("비관적 락은 락 대기 시간 초과와 교착 모두 다시 시도하고 그 횟수를 센다")
+    void pessimistic_CountsLockTimeoutRetries() {
+        //given
+        PessimisticEnrollmentStrategy strategy = new PessimisticEnrollmentStrategy(lectureService, enrollmentMetrics);
+        doThrow(new PessimisticLockingFailureException("Lock wait timeout exceeded"))
+                .doThrow(new CannotAcquireLockException("Deadlock found"))
+                .doThrow(new PessimisticLockingFailureException("Lock wait timeout exceeded"))
+                .when(lectureService).applyLecture(eq(1L), any(Student.class));
+
+        //when
+        assertThrows(LectureBusyException.class, () -> strategy.apply(1L, new Student()));
+
+        //then
+        verify(lectureService, times(3)).applyLecture(eq(1L), any(Student.class));
+        assertEquals(2, retries(EnrollmentStrategyType.PESSIMISTIC, 1L));
+    }
+
+    private double retries(EnrollmentStrategyType strategy, Long lectureId) {
+        return meterRegistry.get("enrollment.retries")
+                .tag("strategy", strategy.name()).tag("lecture", String.valueOf(lectureId))
+                .counter().count();
+    }
+}
@@ -0,0 +1,66 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent.ChangeType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.EnrollmentOutboxJdbcRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.EnrollmentOutboxMessage;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentEventPublisher;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentOutboxRelay;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.InMemoryEnrollmentEventPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EnrollmentOutboxRelayTest {
+
+    private final EnrollmentOutboxJdbcRepository enrollmentOutboxJdbcRepository = mock(EnrollmentOutboxJdbcRepository.class);
+
+    @Test
+    @DisplayName("강의별로 id 순서대로 발행하고 발행된 이벤트만 삭제한다")
+    void relayBatch_PublishesPerLectureInOrder() {
+        //given
+        InMemoryEnrollmentEventPublisher publisher = new InMemoryEnrollmentEventPublisher(100);
+        EnrollmentOutboxRelay relay = new EnrollmentOutboxRelay(enrollmentOutboxJdbcRepository, publisher, 10, true);
+        when(enrollmentOutboxJdbcRepository.findOldest(10)).thenReturn(List.of(
+                message(1L, 1L, ChangeType.APPLIED),
+                message(2L, 2L, ChangeType.APPLIED),
+                message(3L, 1L, ChangeType.CANCELED)));
+
+        //when
+        int relayed = relay.relayBatch();
+
+        //then
+        assertEquals(3, relayed);
+        assertEquals(List.of(1L, 3L, 2L), publisher.getPublished().stream().map(EnrollmentOutboxMessage::id).toList());
+        verify(enrollmentOutboxJdbcRepository).deleteAllById(List.of(1L, 3L, 2L));
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 강의의 이벤트는 삭제하지 않아 다음 주기에 다시 발행된다")
+    void relayBatch_KeepsFailedLectureForRetry() {
+        //given
+        EnrollmentEventPublisher publisher = mock(EnrollmentEventPublisher.class);
+        doThrow(new IllegalStateException("브로커 장애")).when(publisher).publish(eq(1L), anyList());
+        EnrollmentOutboxRelay relay = new EnrollmentOutboxRelay(enrollmentOutboxJdbcRepository, publisher, 10, true);
+        when(enrollmentOutboxJdbcRepository.findOldest(10)).thenReturn(List.of(
+                message(1L, 1L, ChangeType.APPLIED),
+                message(2L, 2L, ChangeType.APPLIED)));
+
+        //when
+        int relayed = relay.relayBatch();
+
+        //then
+        assertEquals(0, relayed);
+        verify(enrollmentOutboxJdbcRepository).deleteAllById(List.of(2L));
+    }
+
+    private EnrollmentOutboxMessage message(Long id, Long lectureId, ChangeType changeType) {
+        return new EnrollmentOutboxMessage(id, lectureId, id, 10L, changeType, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,87 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent.ChangeType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2로 outbox가 신청 트랜잭션과 함께 커밋/롤백되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class EnrollmentOutboxWriterTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행된 이벤트는 커밋 시 같은 트랜잭션으로 저장되고 강의별 순서 번호를 받는다")
+    void append_InsertsOnCommit() {
+        //given
+        Long lectureId = saveLecture();
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, 1L, ChangeType.APPLIED));
+            eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, 2L, ChangeType.APPLIED));
+            //커밋 직전에 한 번에 저장하므로 아직 없음
+            assertEquals(List.of(), sequenceNos(lectureId));
+        });
+
+        //then
+        assertEquals(List.of(1L, 2L), sequenceNos(lectureId));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 이벤트는 저장되지 않고 순서 번호도 소모하지 않는다")
+    void append_DiscardedOnRollback() {
+        //given
+        Long lectureId = saveLecture();
+
+        //when
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, 1L, ChangeType.APPLIED));
+            throw new IllegalStateException("신청 실패");
+        }));
+        transactionTemplate.executeWithoutResult(status ->
+                eventPublisher.publishEvent(new LectureEnrollmentChangedEvent(lectureId, 2L, ChangeType.CANCELED)));
+
+        //then
+        List<Long> studentIds = jdbcTemplate.queryForList(
+                "SELECT student_id FROM enrollment_outbox WHERE lecture_id = ?", Long.class, lectureId);
+        assertEquals(List.of(2L), studentIds);
+        assertEquals(List.of(1L), sequenceNos(lectureId));
+    }
+
+    private List<Long> sequenceNos(Long lectureId) {
+        return jdbcTemplate.queryForList(
+                "SELECT sequence_no FROM enrollment_outbox WHERE lecture_id = ? ORDER BY sequence_no", Long.class, lectureId);
+    }
+
+    private Long saveLecture() {
+        return lectureRepository.save(new Lecture("outbox 특강", "김강사", 30, LocalDateTime.now().plusDays(1))).getId();
+    }
+}
@@ -0,0 +1,220 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ConditionalUpdateEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentConcurrencyStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.OptimisticEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.PessimisticEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2로 조건부 UPDATE의 정원 보장과 비관적/낙관적 락의 재시도 경로를 실제 DB 락으로 검증
+ * (락 대기 시간을 1초로 줄여 비관적 락 대기 시간 초과를 빠르게 재현)
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:strategy_${random.uuid};MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=1000")
+@ActiveProfiles("h2")
+class EnrollmentStrategyDbTest {
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ConditionalUpdateEnrollmentStrategy conditionalUpdateEnrollmentStrategy;
+
+    @Autowired
+    private PessimisticEnrollmentStrategy pessimisticEnrollmentStrategy;
+
+    @Autowired
+    private OptimisticEnrollmentStrategy optimisticEnrollmentStrategy;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 정원 5명에 40명이 동시에 조건부 UPDATE로 신청했을 때, 5명만 성공하고 신청 인원과 신청 내역이 정원을 넘지 않는 것을 검증
+     */
+    @Test
+    @DisplayName("조건부 UPDATE는 동시에 신청해도 정원을 넘지 않는다")
+    void conditionalUpdate_NeverExceedsCapacity() throws InterruptedException {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("조건부 특강", "김강사", 5, LocalDateTime.now()));
+        List<Student> students = saveStudents("conditional", 40);
+
+        //when
+        int[] outcome = applyConcurrently(conditionalUpdateEnrollmentStrategy, lecture.getId(), students);
+
+        //then
+        assertEquals(5, outcome[0]);
+        assertEquals(35, outcome[1]);
+        assertEquals(5, lectureRepository.findById(lecture.getId()).orElseThrow().getCurrentEnrollment());
+        assertEquals(5, historyCount(lecture.getId()));
+    }
+
+    @Test
+    @DisplayName("비관적 락은 다른 트랜잭션이 락을 오래 잡아 대기 시간이 초과되면 다시 시도해 신청한다")
+    void pessimistic_RetriesAfterLockTimeout() throws Exception {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("비관적 특강", "김강사", 5, LocalDateTime.now()));
+        Student student = saveStudents("pessimistic", 1).get(0);
+        double retriesBefore = retries(EnrollmentStrategyType.PESSIMISTIC, lecture.getId());
+        LockHolder holder = holdRowLock(lecture.getId());
+
+        //when (첫 시도가 락 대기 시간 초과로 실패해 재시도가 시작되면 락을 풂)
+        CompletableFuture<Void> apply = CompletableFuture.runAsync(() -> pessimisticEnrollmentStrategy.apply(lecture.getId(), student));
+        awaitRetry(EnrollmentStrategyType.PESSIMISTIC, lecture.getId(), retriesBefore);
+        holder.release();
+        apply.get(10, TimeUnit.SECONDS);
+
+        //then
+        assertEquals(1, lectureRepository.findById(lecture.getId()).orElseThrow().getCurrentEnrollment());
+        assertEquals(1, historyCount(lecture.getId()));
+    }
+
+    @Test
+    @DisplayName("낙관적 락은 읽은 뒤 다른 트랜잭션이 먼저 갱신하면 버전 충돌 후 다시 읽어 신청한다")
+    void optimistic_RetriesAfterVersionConflict() throws Exception {
+        //given
+        Lecture lecture = lectureRepository.saveAndFlush(new Lecture("낙관적 특강", "김강사", 5, LocalDateTime.now()));
+        Student student = saveStudents("optimistic", 1).get(0);
+        double retriesBefore = retries(EnrollmentStrategyType.OPTIMISTIC, lecture.getId());
+        //다른 트랜잭션이 버전을 올린 채 커밋하지 않고 대기
+        LockHolder holder = holdRowLock(lecture.getId());
+
+        //when (신청은 이전 버전을 읽고 UPDATE에서 대기하다가, 상대가 커밋하면 버전 충돌로 실패 후 재시도)
+        Thread applier = Thread.ofPlatform().start(() -> optimisticEnrollmentStrategy.apply(lecture.getId(), student));
+        awaitBlocked(applier);
+        holder.release();
+        applier.join(10_000);
+
+        //then
+        assertTrue(retries(EnrollmentStrategyType.OPTIMISTIC, lecture.getId()) > retriesBefore);
+        Lecture updated = lectureRepository.findById(lecture.getId()).orElseThrow();
+        assertEquals(1, updated.getCurrentEnrollment());
+        assertEquals(2, updated.getVersion());
+        assertEquals(1, historyCount(lecture.getId()));
+    }
+
+    //별도 트랜잭션에서 강의 행의 버전을 올려 행 락을 잡고, release 전까지 커밋하지 않음
+    private LockHolder holdRowLock(Long lectureId) throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread thread = Thread.ofPlatform().start(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE lecture SET version = version + 1 WHERE id = ?", lectureId);
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        return new LockHolder(thread, release);
+    }
+
+    private record LockHolder(Thread thread, CountDownLatch release) {
+        private void release() throws InterruptedException {
+            release.countDown();
+            thread.join(5_000);
+        }
+    }
+
+    private void awaitRetry(EnrollmentStrategyType strategy, Long lectureId, double before) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (retries(strategy, lectureId) <= before) {
+            assertTrue(System.nanoTime() < deadline, "재시도가 시작되지 않았습니다.");
+            Thread.sleep(10);
+        }
+    }
+
+    //신청 스레드가 DB 행 락을 기다리기 시작할 때까지 대기
+    private void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING && thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "신청이 락을 기다리지 않았습니다.");
+            Thread.sleep(5);
+        }
+    }
+
+    private double retries(EnrollmentStrategyType strategy, Long lectureId) {
+        Counter counter = meterRegistry.find("enrollment.retries")
+                .tag("strategy", strategy.name()).tag("lecture", String.valueOf(lectureId))
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    //[성공 수, 정원 초과 수]
+    private int[] applyConcurrently(EnrollmentConcurrencyStrategy strategy, Long lectureId, List<Student> students) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(students.size());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(students.size());
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        for (Student student : students) {
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    strategy.apply(lectureId, student);
+                    success.incrementAndGet();
+                } catch (LectureFullException e) {
+                    full.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        return new int[]{success.get(), full.get()};
+    }
+
+    private List<Student> saveStudents(String prefix, int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setName(prefix + "-" + i);
+            students.add(student);
+        }
+        return studentRepository.saveAllAndFlush(students);
+    }
+
+    private int historyCount(Long lectureId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lecture_history WHERE lecture_id = ?", Integer.class, lectureId);
+    }
+}
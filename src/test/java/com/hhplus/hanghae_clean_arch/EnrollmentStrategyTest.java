@@ -0,0 +1,110 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ConditionalUpdateEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentMetrics;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyResolver;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureSeatSlotManager;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.OptimisticEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.PessimisticEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ShardedCounterEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.config.EnrollmentStrategyProperties;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentStrategyTest {
+
+    @Mock
+    private LectureService lectureService;
+
+    @Mock
+    private EnrollmentMetrics enrollmentMetrics;
+
+    @Mock
+    private LectureSeatSlotManager lectureSeatSlotManager;
+
+    @Test
+    @DisplayName("강의별 지정이 있으면 해당 방식을, 없으면 기본 방식을 사용한다")
+    void resolve_UsesLectureOverride() {
+        //given
+        EnrollmentStrategyResolver resolver = new EnrollmentStrategyResolver(
+                List.of(new PessimisticEnrollmentStrategy(lectureService, enrollmentMetrics),
+                        new OptimisticEnrollmentStrategy(lectureService, enrollmentMetrics),
+                        new ConditionalUpdateEnrollmentStrategy(lectureService)),
+                new EnrollmentStrategyProperties(EnrollmentStrategyType.PESSIMISTIC, Map.of(2L, EnrollmentStrategyType.CONDITIONAL_UPDATE)),
+                lectureSeatSlotManager);
+
+        //when & then
+        assertEquals(EnrollmentStrategyType.PESSIMISTIC, resolver.resolve(1L).type());
+        assertEquals(EnrollmentStrategyType.CONDITIONAL_UPDATE, resolver.resolve(2L).type());
+    }
+
+    @Test
+    @DisplayName("카운터 슬롯으로 전환된 강의는 설정과 관계없이 SHARDED_COUNTER 방식을 사용한다")
+    void resolve_SlottedLectureUsesShardedCounter() {
+        //given
+        EnrollmentStrategyResolver resolver = new EnrollmentStrategyResolver(
+                List.of(new PessimisticEnrollmentStrategy(lectureService, enrollmentMetrics),
+                        new ShardedCounterEnrollmentStrategy(lectureService, lectureSeatSlotManager, enrollmentMetrics)),
+                new EnrollmentStrategyProperties(EnrollmentStrategyType.PESSIMISTIC, Map.of()),
+                lectureSeatSlotManager);
+        when(lectureSeatSlotManager.isSlotted(1L)).thenReturn(true);
+
+        //when & then
+        assertEquals(EnrollmentStrategyType.SHARDED_COUNTER, resolver.resolve(1L).type());
+        assertEquals(EnrollmentStrategyType.PESSIMISTIC, resolver.resolve(2L).type());
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌 시 재시도하고 재시도 횟수를 기록한다")
+    void optimistic_RetriesOnVersionConflict() {
+        //given
+        OptimisticEnrollmentStrategy strategy = new OptimisticEnrollmentStrategy(lectureService, enrollmentMetrics);
+        Student student = new Student();
+        student.setId(1L);
+
+        doThrow(new ObjectOptimisticLockingFailureException("Lecture", 1L))
+                .doThrow(new ObjectOptimisticLockingFailureException("Lecture", 1L))
+                .doNothing()
+                .when(lectureService).applyLectureWithoutLock(eq(1L), any(Student.class));
+
+        //when
+        strategy.apply(1L, student);
+
+        //then
+        verify(lectureService, times(3)).applyLectureWithoutLock(eq(1L), any(Student.class));
+        verify(enrollmentMetrics, times(2)).incrementRetry(EnrollmentStrategyType.OPTIMISTIC, 1L);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 재시도를 모두 소진하면 429 예외로 거절한다")
+    void optimistic_GivesUpAfterMaxAttempts() {
+        //given
+        OptimisticEnrollmentStrategy strategy = new OptimisticEnrollmentStrategy(lectureService, enrollmentMetrics);
+        Student student = new Student();
+        student.setId(1L);
+
+        doThrow(new ObjectOptimisticLockingFailureException("Lecture", 1L))
+                .when(lectureService).applyLectureWithoutLock(eq(1L), any(Student.class));
+
+        //when & then
+        assertThrows(LectureBusyException.class, () -> strategy.apply(1L, student));
+        verify(lectureService, times(5)).applyLectureWithoutLock(eq(1L), any(Student.class));
+    }
+}
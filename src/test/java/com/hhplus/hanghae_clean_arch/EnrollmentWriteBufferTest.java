@@ -0,0 +1,149 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryJdbcRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRow;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentWriteBuffer;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class EnrollmentWriteBufferTest {
+
+    private final LectureHistoryJdbcRepository lectureHistoryJdbcRepository = mock(LectureHistoryJdbcRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private EnrollmentWriteBuffer buffer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 창 안에 들어온 신청은 INSERT 한 번과 강의별 UPDATE 한 번으로 저장된다")
+    void submit_GroupsIntoOneBatch() throws Exception {
+        //given
+        buffer = start(10, 300);
+        when(lectureHistoryJdbcRepository.increaseEnrollment(anyLong(), anyInt())).thenReturn(1);
+
+        //when
+        List<CompletableFuture<Void>> futures = List.of(
+                buffer.submit(1L, 1L), buffer.submit(1L, 2L), buffer.submit(2L, 3L),
+                buffer.submit(1L, 4L), buffer.submit(2L, 5L));
+        for (CompletableFuture<Void> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LectureHistoryRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(lectureHistoryJdbcRepository, times(1)).insertAll(rows.capture());
+        assertEquals(5, rows.getValue().size());
+        verify(lectureHistoryJdbcRepository).increaseEnrollment(1L, 3);
+        verify(lectureHistoryJdbcRepository).increaseEnrollment(2L, 2);
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 한 건씩 다시 저장해 문제 건만 실패한다")
+    void flush_FallsBackToSingleWrites() throws Exception {
+        //given
+        buffer = start(10, 300);
+        when(lectureHistoryJdbcRepository.increaseEnrollment(anyLong(), anyInt())).thenReturn(1);
+        doAnswer(invocation -> {
+            List<LectureHistoryRow> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> row.studentId() == 2L)) {
+                throw new DuplicateKeyException("uk_lecture_history_lecture_student");
+            }
+            return null;
+        }).when(lectureHistoryJdbcRepository).insertAll(anyList());
+
+        //when
+        CompletableFuture<Void> first = buffer.submit(1L, 1L);
+        CompletableFuture<Void> duplicate = buffer.submit(1L, 2L);
+        CompletableFuture<Void> third = buffer.submit(1L, 3L);
+
+        //then
+        first.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DuplicateApplicationException.class, exception.getCause());
+        //배치 1번 + 건별 3번
+        verify(lectureHistoryJdbcRepository, times(4)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("저장 중 Error가 나도 대기 중인 신청은 모두 실패로 완료된다")
+    void flush_CompletesFuturesOnError() {
+        //given
+        buffer = start(10, 50);
+        doThrow(new LinkageError("boom")).when(lectureHistoryJdbcRepository).insertAll(anyList());
+
+        //when
+        CompletableFuture<Void> first = buffer.submit(1L, 1L);
+        CompletableFuture<Void> second = buffer.submit(1L, 2L);
+
+        //then
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(LinkageError.class, firstFailure.getCause());
+        assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("종료 전에 등록된 신청은 저장한 뒤 멈추고, 종료 후 등록은 바로 실패한다")
+    void stop_FlushesPendingAndRejectsNewWrites() throws Exception {
+        //given
+        buffer = start(10, 300);
+        when(lectureHistoryJdbcRepository.increaseEnrollment(anyLong(), anyInt())).thenReturn(1);
+        CompletableFuture<Void> pending = buffer.submit(1L, 1L);
+
+        //when
+        buffer.stop();
+        CompletableFuture<Void> late = buffer.submit(1L, 2L);
+
+        //then
+        assertTrue(pending.isDone());
+        pending.get();
+        ExecutionException lateFailure = assertThrows(ExecutionException.class, late::get);
+        assertInstanceOf(LectureBusyException.class, lateFailure.getCause());
+        verify(lectureHistoryJdbcRepository, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("저장 중 Error는 업무 거절로 바꾸지 않고 그대로 전달한다")
+    void submitAndAwait_StorageErrorIsNotBusinessRejection() {
+        //given
+        buffer = start(10, 10);
+        doThrow(new LinkageError("driver")).when(lectureHistoryJdbcRepository).insertAll(anyList());
+
+        //when //then
+        assertThrows(LinkageError.class, () -> buffer.submitAndAwait(1L, 1L));
+    }
+
+    private EnrollmentWriteBuffer start(int batchSize, long windowMs) {
+        EnrollmentWriteBuffer started = new EnrollmentWriteBuffer(lectureHistoryJdbcRepository, transactionTemplate, eventPublisher,
+                true, batchSize, windowMs, 100, 3000);
+        started.start();
+        return started;
+    }
+}
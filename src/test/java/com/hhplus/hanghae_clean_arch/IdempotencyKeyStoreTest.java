@@ -0,0 +1,173 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.IdempotencyKeyStore;
+import com.hhplus.hanghae_clean_arch.exception.AdmissionRequiredException;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyKeyStoreTest {
+
+    private final IdempotencyKeyStore idempotencyKeyStore = new IdempotencyKeyStore(100, 60);
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 실행되고 같은 결과를 받는다")
+    void execute_CollapsesConcurrentDuplicates() throws InterruptedException {
+        //given
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger sameResults = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    String result = idempotencyKeyStore.execute("key-1", "1:1", () -> {
+                        executions.incrementAndGet();
+                        sleep(100);
+                        return "신청 완료";
+                    });
+                    if ("신청 완료".equals(result)) {
+                        sameResults.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertEquals(1, executions.get());
+        assertEquals(threadCount, sameResults.get());
+    }
+
+    @Test
+    @DisplayName("혼잡으로 인한 실패는 저장하지 않아 같은 키로 다시 처리할 수 있다")
+    void execute_DoesNotStoreBusyFailure() {
+        //given
+        assertThrows(LectureBusyException.class, () -> idempotencyKeyStore.execute("key-1", "1:1", () -> {
+            throw new LectureBusyException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }));
+
+        //when
+        String result = idempotencyKeyStore.execute("key-1", "1:1", () -> "신청 완료");
+
+        //then
+        assertEquals("신청 완료", result);
+    }
+
+    @Test
+    @DisplayName("처리 중 Error가 나도 기다리던 같은 키 요청이 같은 실패를 받고, 결과는 저장하지 않는다")
+    void execute_CompletesWaitersOnError() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<?> first = executorService.submit(() -> idempotencyKeyStore.execute("key-1", "1:1", () -> {
+            started.countDown();
+            await(release);
+            throw new OutOfMemoryError("test");
+        }));
+        started.await();
+        Future<String> waiter = executorService.submit(() -> idempotencyKeyStore.execute("key-1", "1:1", () -> "신청 완료"));
+        //두 번째 요청이 처음 요청의 결과를 기다리기 시작할 때까지
+        sleep(100);
+
+        //when
+        release.countDown();
+
+        //then
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        ExecutionException waiterFailure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(OutOfMemoryError.class, firstFailure.getCause());
+        assertInstanceOf(OutOfMemoryError.class, waiterFailure.getCause());
+        assertEquals("신청 완료", idempotencyKeyStore.execute("key-1", "1:1", () -> "신청 완료"));
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열 토큰이 없어 거절된 요청은 저장하지 않아 새 토큰으로 같은 키를 다시 쓸 수 있다")
+    void execute_DoesNotStoreAdmissionRejection() {
+        //given
+        assertThrows(AdmissionRequiredException.class, () -> idempotencyKeyStore.execute("key-1", "1:1", () -> {
+            throw new AdmissionRequiredException();
+        }));
+
+        //when
+        String result = idempotencyKeyStore.execute("key-1", "1:1", () -> "신청 완료");
+
+        //then
+        assertEquals("신청 완료", result);
+    }
+
+    @Test
+    @DisplayName("업무 거절로 확정되지 않은 IllegalStateException은 저장하지 않아 같은 키로 다시 처리할 수 있다")
+    void execute_DoesNotStoreUntypedIllegalState() {
+        //given
+        assertThrows(IllegalStateException.class, () -> idempotencyKeyStore.execute("key-1", "1:1", () -> {
+            throw new IllegalStateException("신청 저장 중 오류가 발생했습니다.");
+        }));
+
+        //when
+        String result = idempotencyKeyStore.execute("key-1", "1:1", () -> "신청 완료");
+
+        //then
+        assertEquals("신청 완료", result);
+    }
+
+    @Test
+    @DisplayName("정원 초과 거절은 저장해 같은 키로 다시 요청하면 실행하지 않고 같은 거절을 돌려준다")
+    void execute_StoresCapacityRejection() {
+        //given
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<String> apply = () -> {
+            executions.incrementAndGet();
+            throw new LectureFullException();
+        };
+        assertThrows(LectureFullException.class, () -> idempotencyKeyStore.execute("key-1", "1:1", apply));
+
+        //when //then
+        assertThrows(LectureFullException.class, () -> idempotencyKeyStore.execute("key-1", "1:1", apply));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("다른 요청 내용에 같은 키를 쓰면 거절한다")
+    void execute_RejectsKeyReuseWithDifferentRequest() {
+        idempotencyKeyStore.execute("key-1", "1:1", () -> "신청 완료");
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyKeyStore.execute("key-1", "2:1", () -> "신청 완료"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
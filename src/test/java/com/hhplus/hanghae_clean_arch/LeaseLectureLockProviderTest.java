@@ -0,0 +1,74 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureLockLeaseJdbcRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentMetrics;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LeaseLectureLockProvider;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureLockProvider.LectureLock;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2(MariaDB 모드)로 lease 테이블 분산 락을 검증
+ */
+class LeaseLectureLockProviderTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private LectureLockLeaseJdbcRepository lectureLockLeaseJdbcRepository;
+    private final EnrollmentMetrics enrollmentMetrics = new EnrollmentMetrics(new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:lease_" + System.nanoTime() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE lecture_lock_lease (lecture_id BIGINT PRIMARY KEY, owner VARCHAR(64), " +
+                "fencing_token BIGINT NOT NULL, expires_at TIMESTAMP)");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        lectureLockLeaseJdbcRepository = new LectureLockLeaseJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("보유 중인 락은 다른 요청이 얻지 못하고, 해제 후에는 더 큰 fencing token으로 다시 얻는다")
+    void acquire_ExclusiveUntilReleased() {
+        //given
+        LeaseLectureLockProvider provider = new LeaseLectureLockProvider(lectureLockLeaseJdbcRepository, transactionManager, enrollmentMetrics, 5000);
+        LectureLock first = provider.acquire(1L, Duration.ofMillis(100));
+
+        //when & then
+        assertThrows(LectureBusyException.class, () -> provider.acquire(1L, Duration.ofMillis(100)));
+        first.close();
+
+        try (LectureLock second = provider.acquire(1L, Duration.ofMillis(100))) {
+            assertTrue(second.fencingToken() > first.fencingToken());
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 lease는 다른 요청이 가져가며, 이전 보유자의 해제는 새 보유자에게 영향을 주지 않는다")
+    void acquire_TakesOverExpiredLease() {
+        //given
+        LeaseLectureLockProvider provider = new LeaseLectureLockProvider(lectureLockLeaseJdbcRepository, transactionManager, enrollmentMetrics, 0);
+        LectureLock stale = provider.acquire(1L, Duration.ofMillis(100));
+
+        //when
+        LectureLock current = provider.acquire(1L, Duration.ofMillis(1000));
+        stale.close();
+
+        //then
+        assertTrue(current.fencingToken() > stale.fencingToken());
+        String owner = jdbcTemplate.queryForObject("SELECT owner FROM lecture_lock_lease WHERE lecture_id = 1", String.class);
+        assertNotNull(owner);
+        current.close();
+    }
+}
@@ -0,0 +1,151 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationTicketFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationTicketStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.ApplicationTicketResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ConnectionPermitLimiter;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyResolver;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentWriteBuffer;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureCancellationService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureCommandLanes;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureSeatSlotManager;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureStripedLocks;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ReplicaReadRouter;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SeatReservationManager;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SoldOutRegistry;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.StudentResolver;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LectureApplicationTicketFacadeTest {
+
+    @Mock
+    private LectureApplicationFacade lectureApplicationFacade;
+
+    private LectureApplicationTicketFacade ticketFacade;
+
+    @AfterEach
+    void tearDown() {
+        ticketFacade.shutdown();
+    }
+
+    @Test
+    @DisplayName("접수 즉시 PENDING 티켓을 반환하고, 처리 후 거절 사유를 조회할 수 있다")
+    void submit_ReturnsTicketAndRecordsRejection() throws Exception {
+        //given
+        ticketFacade = new LectureApplicationTicketFacade(lectureApplicationFacade, 1, 10, 300, false);
+        doThrow(new LectureFullException())
+                .when(lectureApplicationFacade).applyLecture(eq(1L), any(Student.class));
+
+        //when
+        ApplicationTicketResponseDto ticket = ticketFacade.submit(1L, newStudent());
+
+        //then
+        assertNotNull(ticket.getTicketId());
+        ApplicationTicketResponseDto result = awaitResult(ticket.getTicketId());
+        assertEquals(ApplicationTicketStatus.REJECTED, result.getStatus());
+        assertEquals("강의 정원이 초과되었습니다.", result.getReason());
+    }
+
+    @Test
+    @DisplayName("업무 예외가 아닌 실패는 내부 메시지 대신 일반 사유로 거절한다")
+    void submit_HidesUnexpectedFailureMessage() throws Exception {
+        //given
+        ticketFacade = new LectureApplicationTicketFacade(lectureApplicationFacade, 1, 10, 300, false);
+        doThrow(new DataAccessResourceFailureException("could not execute statement [insert into lecture_history ...]"))
+                .when(lectureApplicationFacade).applyLecture(eq(1L), any(Student.class));
+
+        //when
+        ApplicationTicketResponseDto ticket = ticketFacade.submit(1L, newStudent());
+
+        //then
+        ApplicationTicketResponseDto result = awaitResult(ticket.getTicketId());
+        assertEquals(ApplicationTicketStatus.REJECTED, result.getStatus());
+        assertEquals("신청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.", result.getReason());
+    }
+
+    @Test
+    @DisplayName("워커와 대기 큐가 가득 차면 즉시 거절한다")
+    void submit_RejectsWhenQueueFull() throws Exception {
+        //given
+        ticketFacade = new LectureApplicationTicketFacade(lectureApplicationFacade, 1, 1, 300, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(lectureApplicationFacade).applyLecture(eq(1L), any(Student.class));
+
+        ticketFacade.submit(1L, newStudent());
+        started.await();
+        ticketFacade.submit(1L, newStudent());
+
+        //when & then
+        assertThrows(LectureBusyException.class, () -> ticketFacade.submit(1L, newStudent()));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("메모리 좌석 선점에서 중복으로 거절된 신청은 일반 사유가 아니라 중복 신청 사유로 거절한다")
+    void submit_InMemoryDuplicate_RecordsDuplicateReason() throws Exception {
+        //given (좌석 선점기만 중복으로 거절하는 실제 신청 흐름)
+        SeatReservationManager seatReservationManager = mock(SeatReservationManager.class);
+        StudentResolver studentResolver = mock(StudentResolver.class);
+        when(studentResolver.resolve(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DuplicateApplicationException()).when(seatReservationManager).reserve(1L, 1L);
+        LectureApplicationFacade facade = new LectureApplicationFacade(mock(LectureService.class), mock(LectureCancellationService.class),
+                seatReservationManager, mock(EnrollmentWriteBuffer.class), mock(LectureCommandLanes.class),
+                new ConnectionPermitLimiter(false, 10, 3000), mock(EnrollmentStrategyResolver.class), studentResolver,
+                mock(ReplicaReadRouter.class), mock(LectureStripedLocks.class), mock(SoldOutRegistry.class), mock(LectureSeatSlotManager.class));
+        ticketFacade = new LectureApplicationTicketFacade(facade, 1, 10, 300, false);
+
+        //when
+        ApplicationTicketResponseDto ticket = ticketFacade.submit(1L, newStudent());
+
+        //then
+        ApplicationTicketResponseDto result = awaitResult(ticket.getTicketId());
+        assertEquals(ApplicationTicketStatus.REJECTED, result.getStatus());
+        assertEquals("이미 신청된 강의입니다.", result.getReason());
+    }
+
+    private ApplicationTicketResponseDto awaitResult(String ticketId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ApplicationTicketResponseDto ticket = ticketFacade.getTicket(ticketId);
+            if (ticket.getStatus() != ApplicationTicketStatus.PENDING) {
+                return ticket;
+            }
+            Thread.sleep(20);
+        }
+        return fail("티켓 처리가 끝나지 않았습니다.");
+    }
+
+    private Student newStudent() {
+        Student student = new Student();
+        student.setId(1L);
+        student.setName("홍길동");
+        return student;
+    }
+}
@@ -0,0 +1,187 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureHistory;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureWaitlist;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureWaitlistRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureCancellationService;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureCancellationServiceTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @Mock
+    private LectureHistoryRepository lectureHistoryRepository;
+
+    @Mock
+    private LectureWaitlistRepository lectureWaitlistRepository;
+
+    @Mock
+    private LectureSeatSlotRepository lectureSeatSlotRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LectureCancellationService lectureCancellationService;
+
+    private Lecture lecture;
+
+    @BeforeEach
+    void setUp() {
+        lecture = new Lecture("특강1", "강사1", 30, LocalDateTime.now());
+        lecture.setId(1L);
+        lecture.setCurrentEnrollment(30);
+
+        when(lectureSeatSlotRepository.findAllByLectureIdWithLock(1L)).thenReturn(List.of());
+        when(lectureRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lecture));
+    }
+
+    @Test
+    @DisplayName("대기자가 없으면 취소 시 좌석을 반납한다")
+    void cancelLecture_ReturnsSeat() {
+        //given
+        LectureHistory history = history(student(1L), ApplicationStatus.APPLIED);
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 1L)).thenReturn(Optional.of(history));
+        when(lectureWaitlistRepository.findFirstByLectureIdOrderByIdAsc(1L)).thenReturn(Optional.empty());
+
+        //when
+        Long promoted = lectureCancellationService.cancelLecture(1L, 1L);
+
+        //then
+        assertNull(promoted);
+        assertEquals(ApplicationStatus.CANCELED, history.getStatus());
+        assertEquals(29, lecture.getCurrentEnrollment());
+    }
+
+    @Test
+    @DisplayName("대기자가 있으면 같은 트랜잭션에서 1순위 대기자를 승격하고 좌석 수는 유지한다")
+    void cancelLecture_PromotesFirstWaiting() {
+        //given
+        LectureHistory history = history(student(1L), ApplicationStatus.APPLIED);
+        LectureWaitlist waiting = new LectureWaitlist(lecture, student(2L), LocalDateTime.now());
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 1L)).thenReturn(Optional.of(history));
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 2L)).thenReturn(Optional.empty());
+        when(lectureWaitlistRepository.findFirstByLectureIdOrderByIdAsc(1L)).thenReturn(Optional.of(waiting));
+
+        //when
+        Long promoted = lectureCancellationService.cancelLecture(1L, 1L);
+
+        //then
+        assertEquals(2L, promoted);
+        assertEquals(30, lecture.getCurrentEnrollment());
+        verify(lectureWaitlistRepository).delete(waiting);
+        verify(lectureHistoryRepository).save(argThat(saved -> saved.getStudent().getId().equals(2L)
+                && saved.getStatus() == ApplicationStatus.APPLIED));
+    }
+
+    @Test
+    @DisplayName("대기 중에 이미 신청된 학생은 승격하지 않고 대기에서만 빼고 다음 대기자를 승격한다")
+    void cancelLecture_SkipsAlreadyAppliedWaiting() {
+        //given
+        LectureHistory history = history(student(1L), ApplicationStatus.APPLIED);
+        LectureHistory alreadyApplied = history(student(2L), ApplicationStatus.APPLIED);
+        LectureWaitlist stale = new LectureWaitlist(lecture, student(2L), LocalDateTime.now());
+        LectureWaitlist waiting = new LectureWaitlist(lecture, student(3L), LocalDateTime.now());
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 1L)).thenReturn(Optional.of(history));
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 2L)).thenReturn(Optional.of(alreadyApplied));
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 3L)).thenReturn(Optional.empty());
+        when(lectureWaitlistRepository.findFirstByLectureIdOrderByIdAsc(1L)).thenReturn(Optional.of(stale), Optional.of(waiting));
+
+        //when
+        Long promoted = lectureCancellationService.cancelLecture(1L, 1L);
+
+        //then
+        assertEquals(3L, promoted);
+        assertEquals(30, lecture.getCurrentEnrollment());
+        verify(lectureWaitlistRepository).delete(stale);
+        verify(lectureWaitlistRepository).delete(waiting);
+        verify(lectureHistoryRepository, times(1)).save(any(LectureHistory.class));
+        verify(lectureHistoryRepository).save(argThat(saved -> saved.getStudent().getId().equals(3L)));
+    }
+
+    @Test
+    @DisplayName("대기 등록 중 중복 대기가 아닌 제약 위반은 그대로 전달한다")
+    void joinWaitlist_RethrowsOtherViolations() {
+        //given
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 1L)).thenReturn(Optional.empty());
+        DataIntegrityViolationException foreignKey = constraintViolation("fk_lecture_waitlist_student");
+        when(lectureWaitlistRepository.saveAndFlush(any(LectureWaitlist.class))).thenThrow(foreignKey);
+
+        //when & then
+        assertSame(foreignKey, assertThrows(DataIntegrityViolationException.class,
+                () -> lectureCancellationService.joinWaitlist(1L, student(1L))));
+    }
+
+    @Test
+    @DisplayName("같은 강의에 다시 대기 등록하면 거절한다")
+    void joinWaitlist_RejectsDuplicateWaiting() {
+        //given
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 1L)).thenReturn(Optional.empty());
+        when(lectureWaitlistRepository.saveAndFlush(any(LectureWaitlist.class)))
+                .thenThrow(constraintViolation(LectureWaitlist.UK_LECTURE_STUDENT));
+
+        //when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> lectureCancellationService.joinWaitlist(1L, student(1L)));
+        assertEquals("이미 대기 중인 강의입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("이미 신청 중인 학생의 재신청은 중복 신청으로 거절한다")
+    void reapplyCanceledLecture_RejectsActiveApplication() {
+        //given
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 1L))
+                .thenReturn(Optional.of(history(student(1L), ApplicationStatus.APPLIED)));
+
+        //when & then
+        assertThrows(DuplicateApplicationException.class, () -> lectureCancellationService.reapplyCanceledLecture(1L, 1L));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private LectureHistory history(Student student, ApplicationStatus status) {
+        LectureHistory history = new LectureHistory();
+        history.setLecture(lecture);
+        history.setStudent(student);
+        history.setStatus(status);
+        return history;
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("constraint violation", new SQLException("constraint violation"), constraintName));
+    }
+
+    private Student student(Long id) {
+        Student student = new Student();
+        student.setId(id);
+        return student;
+    }
+}
@@ -0,0 +1,103 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureCatalogResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureSummaryDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotSum;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LectureCatalogTest {
+
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final LocalDateTime DAY2 = DAY1.plusDays(1);
+    private static final LocalDateTime DAY3 = DAY1.plusDays(2);
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @Mock
+    private LectureSeatSlotRepository lectureSeatSlotRepository;
+
+    private LectureCatalog lectureCatalog;
+
+    @BeforeEach
+    void setUp() {
+        lectureCatalog = new LectureCatalog(lectureRepository, lectureSeatSlotRepository);
+
+        when(lectureRepository.findAllByOrderByDateAscIdAsc()).thenReturn(List.of(
+                lecture(1L, DAY1, 0), lecture(2L, DAY1, 30), lecture(3L, DAY2, 10),
+                lecture(4L, DAY2, 0), lecture(5L, DAY3, 0)));
+        //5번 강의는 카운터 슬롯 합계로 마감
+        when(lectureSeatSlotRepository.sumEnrolledGroupByLecture()).thenReturn(List.of(new LectureSeatSlotSum(5L, 30L)));
+        lectureCatalog.refresh();
+    }
+
+    @Test
+    @DisplayName("커서 이후 항목부터 페이지 단위로 이어서 조회한다")
+    void find_PagesWithKeysetCursor() {
+        //when
+        LectureCatalogResponseDto first = lectureCatalog.find(null, null, false, null, null, 2);
+        LectureCatalogResponseDto second = lectureCatalog.find(null, null, false, first.getNextCursorDate(), first.getNextCursorId(), 2);
+        LectureCatalogResponseDto last = lectureCatalog.find(null, null, false, second.getNextCursorDate(), second.getNextCursorId(), 2);
+
+        //then
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(List.of(3L, 4L), ids(second));
+        assertEquals(List.of(5L), ids(last));
+        assertNull(last.getNextCursorId());
+    }
+
+    @Test
+    @DisplayName("날짜 범위와 잔여 좌석 여부로 거른다")
+    void find_FiltersByDateAndAvailability() {
+        //when
+        LectureCatalogResponseDto result = lectureCatalog.find(DAY1, DAY2, true, null, null, 10);
+
+        //then
+        assertEquals(List.of(1L, 3L, 4L), ids(result));
+        assertEquals(20, result.getLectures().get(1).getRemainingSeats());
+    }
+
+    @Test
+    @DisplayName("남은 항목이 날짜 범위 밖이거나 매진뿐이면 꽉 찬 페이지여도 다음 커서를 주지 않는다")
+    void find_NoNextCursorWhenRestIsFilteredOut() {
+        //when
+        LectureCatalogResponseDto inRange = lectureCatalog.find(DAY1, DAY1, false, null, null, 2);
+        LectureCatalogResponseDto available = lectureCatalog.find(null, null, true, null, null, 3);
+        LectureCatalogResponseDto more = lectureCatalog.find(null, null, true, null, null, 2);
+
+        //then
+        assertEquals(List.of(1L, 2L), ids(inRange));
+        assertNull(inRange.getNextCursorId());
+        assertEquals(List.of(1L, 3L, 4L), ids(available));
+        assertNull(available.getNextCursorId());
+        assertEquals(List.of(1L, 3L), ids(more));
+        assertEquals(3L, more.getNextCursorId());
+    }
+
+    private List<Long> ids(LectureCatalogResponseDto response) {
+        return response.getLectures().stream().map(LectureSummaryDto::getLectureId).toList();
+    }
+
+    private Lecture lecture(Long id, LocalDateTime date, int currentEnrollment) {
+        Lecture lecture = new Lecture("특강" + id, "김강사", 30, date);
+        lecture.setId(id);
+        lecture.setCurrentEnrollment(currentEnrollment);
+        return lecture;
+    }
+}
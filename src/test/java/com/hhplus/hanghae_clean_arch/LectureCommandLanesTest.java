@@ -0,0 +1,226 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent.ChangeType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentMetrics;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureCommandLanes;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LectureCommandLanesTest {
+
+    private static final Long LECTURE_ID = 1L;
+
+    private final LectureService lectureService = mock(LectureService.class);
+    private final LectureRepository lectureRepository = mock(LectureRepository.class);
+
+    private LectureCommandLanes lectureCommandLanes;
+
+    @AfterEach
+    void tearDown() {
+        lectureCommandLanes.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 강의의 신청은 들어온 순서대로 한 번에 하나씩 처리한다")
+    void applyLecture_ProcessesInArrivalOrder() throws Exception {
+        //given
+        lectureCommandLanes = lanes(10);
+        givenLecture(10, 0);
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch firstEntered = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Student student = invocation.getArgument(1);
+            if (student.getId() == 1L) {
+                firstEntered.countDown();
+                releaseFirst.await(5, TimeUnit.SECONDS);
+            }
+            processed.add(student.getId());
+            return null;
+        }).when(lectureService).applyLectureWithConditionalUpdate(eq(LECTURE_ID), any(Student.class));
+
+        //when (첫 신청이 레인을 잡고 있는 동안 나머지를 순서대로 큐에 넣음)
+        List<Thread> submitters = new ArrayList<>();
+        submitters.add(submit(1L));
+        assertTrue(firstEntered.await(5, TimeUnit.SECONDS));
+        for (long studentId = 2; studentId <= 5; studentId++) {
+            Thread submitter = submit(studentId);
+            submitters.add(submitter);
+            awaitWaiting(submitter);
+        }
+        releaseFirst.countDown();
+        for (Thread submitter : submitters) {
+            submitter.join(5_000);
+        }
+
+        //then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), processed);
+    }
+
+    /**
+     * 잔여 좌석 5석에 40명이 동시에 신청했을 때, 레인이 들고 있는 좌석만큼만 DB에 보내고 나머지는 레인에서 거절하는 것을 검증
+     */
+    @Test
+    @DisplayName("동시 신청도 DB에는 한 번에 하나씩, 잔여 좌석만큼만 보낸다")
+    void applyLecture_Concurrency() throws InterruptedException {
+        //given
+        lectureCommandLanes = lanes(100);
+        givenLecture(30, 25);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(lectureService).applyLectureWithConditionalUpdate(eq(LECTURE_ID), any(Student.class));
+
+        int threadCount = 40;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger fullCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            Student student = student(i + 1);
+            executorService.execute(() -> {
+                try {
+                    lectureCommandLanes.applyLecture(LECTURE_ID, student);
+                    successCount.incrementAndGet();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof LectureFullException) {
+                        fullCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertEquals(5, successCount.get());
+        assertEquals(35, fullCount.get());
+        assertEquals(1, maxInFlight.get());
+        verify(lectureService, times(5)).applyLectureWithConditionalUpdate(eq(LECTURE_ID), any(Student.class));
+        verify(lectureRepository, times(1)).findById(LECTURE_ID);
+    }
+
+    @Test
+    @DisplayName("레인 큐가 가득 차면 기다리지 않고 바로 거절한다")
+    void applyLecture_QueueFull_Rejected() throws Exception {
+        //given
+        lectureCommandLanes = lanes(1);
+        givenLecture(10, 0);
+        CountDownLatch firstEntered = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstEntered.countDown();
+            releaseFirst.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(lectureService).applyLectureWithConditionalUpdate(eq(LECTURE_ID), any(Student.class));
+
+        Thread first = submit(1L);
+        assertTrue(firstEntered.await(5, TimeUnit.SECONDS));
+        Thread queued = submit(2L);
+        awaitWaiting(queued);
+
+        //when //then
+        assertThrows(LectureBusyException.class, () -> lectureCommandLanes.applyLecture(LECTURE_ID, student(3)));
+        releaseFirst.countDown();
+        first.join(5_000);
+        queued.join(5_000);
+    }
+
+    @Test
+    @DisplayName("DB가 정원 초과로 거절하면 이후 신청은 DB에 가지 않고, 취소가 커밋되면 DB에서 다시 읽는다")
+    void applyLecture_FullUntilCanceled() {
+        //given
+        lectureCommandLanes = lanes(10);
+        Lecture lecture = givenLecture(10, 0);
+        doThrow(new LectureFullException())
+                .doNothing()
+                .when(lectureService).applyLectureWithConditionalUpdate(eq(LECTURE_ID), any(Student.class));
+
+        //다른 노드가 먼저 채움
+        assertFullRejected(student(1));
+        assertFullRejected(student(2));
+        verify(lectureService, times(1)).applyLectureWithConditionalUpdate(eq(LECTURE_ID), any(Student.class));
+
+        //when
+        lecture.setCurrentEnrollment(9);
+        lectureCommandLanes.markStale(new LectureEnrollmentChangedEvent(LECTURE_ID, 7L, ChangeType.CANCELED));
+
+        //then
+        assertDoesNotThrow(() -> lectureCommandLanes.applyLecture(LECTURE_ID, student(3)));
+        verify(lectureRepository, times(2)).findById(LECTURE_ID);
+    }
+
+    private LectureCommandLanes lanes(int queueCapacity) {
+        return new LectureCommandLanes(lectureService, lectureRepository, new EnrollmentMetrics(new SimpleMeterRegistry()),
+                true, Set.of(LECTURE_ID), queueCapacity, 60_000, false);
+    }
+
+    private Lecture givenLecture(int capacity, int currentEnrollment) {
+        Lecture lecture = new Lecture("특강1", "강사1", capacity, LocalDateTime.now());
+        lecture.setId(LECTURE_ID);
+        lecture.setCurrentEnrollment(currentEnrollment);
+        when(lectureRepository.findById(LECTURE_ID)).thenReturn(Optional.of(lecture));
+        return lecture;
+    }
+
+    private void assertFullRejected(Student student) {
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> lectureCommandLanes.applyLecture(LECTURE_ID, student));
+        assertInstanceOf(LectureFullException.class, exception.getCause());
+    }
+
+    private Thread submit(long studentId) {
+        return Thread.ofPlatform().start(() -> lectureCommandLanes.applyLecture(LECTURE_ID, student(studentId)));
+    }
+
+    //신청 스레드가 결과를 기다리기 시작했다 = 레인 큐에 들어감
+    private void awaitWaiting(Thread submitter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (submitter.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private Student student(long id) {
+        Student student = new Student();
+        student.setId(id);
+        student.setName("학생" + id);
+        return student;
+    }
+}
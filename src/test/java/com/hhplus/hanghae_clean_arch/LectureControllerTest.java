@@ -1,16 +1,22 @@
 package com.hhplus.hanghae_clean_arch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.IdempotencyKeyStore;
 import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureApplicationTicketFacade;
+import com.hhplus.hanghae_clean_arch.biz.lecture.application.LectureQueueFacade;
 import com.hhplus.hanghae_clean_arch.biz.lecture.controller.LectureController;
-import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationTicketStatus;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.ApplicationTicketResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto;
 import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureRequestDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,6 +27,8 @@ import java.util.List;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -36,6 +44,15 @@ class LectureControllerTest {
     @MockBean
     private LectureApplicationFacade lectureApplicationFacade;
 
+    @MockBean
+    private LectureApplicationTicketFacade lectureApplicationTicketFacade;
+
+    @MockBean
+    private LectureQueueFacade lectureQueueFacade;
+
+    @SpyBean
+    private IdempotencyKeyStore idempotencyKeyStore;
+
     @Test
     @DisplayName("특강 신청 성공 - 200 OK")
     void applyLecture_Success() throws Exception {
@@ -70,6 +87,29 @@ class LectureControllerTest {
                 .andExpect(content().string("강의 정원이 초과되었습니다."));
     }
 
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재요청하면 신청을 다시 처리하지 않고 처음 결과를 반환한다")
+    void applyLecture_IdempotencyKeyReplaysOutcome() throws Exception {
+        // given
+        LectureRequestDto requestDto = new LectureRequestDto(1L, 1L, "홍길동");
+        String requestJson = new ObjectMapper().writeValueAsString(requestDto);
+
+        doThrow(new IllegalStateException("강의 정원이 초과되었습니다."))
+                .when(lectureApplicationFacade)
+                .applyLecture(anyLong(), any(Student.class));
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/lecture/apply")
+                            .header("Idempotency-Key", "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("강의 정원이 초과되었습니다."));
+        }
+        verify(lectureApplicationFacade, times(1)).applyLecture(anyLong(), any(Student.class));
+    }
+
     @Test
     @DisplayName("특강 신청 실패 - 강의가 존재하지 않음 - 400 Bad Request")
     void applyLecture_Failure_LectureNotFound() throws Exception {
@@ -89,14 +129,66 @@ class LectureControllerTest {
                 .andExpect(content().string("해당 강의를 찾을 수 없습니다."));
     }
 
+    @Test
+    @DisplayName("비동기 특강 신청 - 202 Accepted와 티켓 반환")
+    void applyLectureAsync_Accepted() throws Exception {
+        // given
+        LectureRequestDto requestDto = new LectureRequestDto(1L, 1L, "홍길동");
+        String requestJson = new ObjectMapper().writeValueAsString(requestDto);
+
+        when(lectureApplicationTicketFacade.submit(anyLong(), any(Student.class)))
+                .thenReturn(new ApplicationTicketResponseDto("ticket-1", 1L, ApplicationTicketStatus.PENDING, null));
+
+        // when & then
+        mockMvc.perform(post("/lecture/apply/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.ticketId").value("ticket-1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("신청 티켓 조회 - 거절 사유 포함 - 200 OK")
+    void getApplicationTicket_Rejected() throws Exception {
+        // given
+        when(lectureApplicationTicketFacade.getTicket("ticket-1"))
+                .thenReturn(new ApplicationTicketResponseDto("ticket-1", 1L, ApplicationTicketStatus.REJECTED, "강의 정원이 초과되었습니다."));
+
+        // when & then
+        mockMvc.perform(get("/lecture/apply/tickets/ticket-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("REJECTED"))
+                .andExpect(jsonPath("$.reason").value("강의 정원이 초과되었습니다."));
+    }
+
+    @Test
+    @DisplayName("특강 신청 취소 실패 - 신청 내역 없음 - 400 Bad Request")
+    void cancelLecture_Failure_NotApplied() throws Exception {
+        // given
+        LectureRequestDto requestDto = new LectureRequestDto(1L, 1L, null);
+        String requestJson = new ObjectMapper().writeValueAsString(requestDto);
+
+        doThrow(new IllegalArgumentException("취소할 신청 내역이 없습니다."))
+                .when(lectureApplicationFacade)
+                .cancelLecture(1L, 1L);
+
+        // when & then
+        mockMvc.perform(post("/lecture/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("취소할 신청 내역이 없습니다."));
+    }
+
     @Test
     @DisplayName("특정 유저의 완료된 강의 목록 조회 - 200 OK")
     void getCompletedLectures_Success() throws Exception {
         // given
         Long userId = 1L;
-        List<Lecture> completedLectures = Arrays.asList(
-                new Lecture("특강 1", "김강사", 30, LocalDateTime.now()),
-                new Lecture("특강 2", "김강사", 30, LocalDateTime.now())
+        List<CompletedLectureResponseDto> completedLectures = Arrays.asList(
+                new CompletedLectureResponseDto(1L, "특강 1", "김강사", LocalDateTime.now(), LocalDateTime.now()),
+                new CompletedLectureResponseDto(2L, "특강 2", "김강사", LocalDateTime.now(), LocalDateTime.now())
         );
 
         when(lectureApplicationFacade.getCompletedLecturesByUserId(userId)).thenReturn(completedLectures);
@@ -105,6 +197,7 @@ class LectureControllerTest {
         mockMvc.perform(get("/lecture/completed/" + userId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].lectureId").value(1))
                 .andExpect(jsonPath("$[0].title").value("특강 1"))
                 .andExpect(jsonPath("$[0].instructor").value("김강사"))
                 .andExpect(jsonPath("$[1].title").value("특강 2"))
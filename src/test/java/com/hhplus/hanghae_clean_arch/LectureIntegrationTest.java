@@ -4,6 +4,7 @@ import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureHistory;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto;
 import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
 import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
 import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
@@ -47,6 +48,7 @@ class LectureIntegrationTest {
 
         Student student = new Student();
         student.setName("홍길동");
+        studentRepository.save(student);
 
         // when
         lectureService.applyLecture(lecture.getId(), student);
@@ -70,6 +72,7 @@ class LectureIntegrationTest {
 
         Student student = new Student();
         student.setName("김철수");
+        studentRepository.save(student);
 
         // when & then
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -91,6 +94,7 @@ class LectureIntegrationTest {
 
         Student student = new Student();
         student.setName("실패중");
+        studentRepository.save(student);
 
         // 첫 번째 신청 성공
         lectureService.applyLecture(lecture.getId(), student);
@@ -127,6 +131,7 @@ class LectureIntegrationTest {
                 try {
                     Student student = new Student();
                     student.setName("학생" + Thread.currentThread().getId());
+                    studentRepository.save(student);
 
                     lectureService.applyLecture(lecture.getId(), student);
                     successCount.incrementAndGet();
@@ -178,7 +183,7 @@ class LectureIntegrationTest {
         lectureHistoryRepository.save(history2);
 
         // when
-        List<Lecture> completedLectures = lectureService.getCompletedLecturesByUserId(userId);
+        List<CompletedLectureResponseDto> completedLectures = lectureService.getCompletedLecturesByUserId(userId);
 
         // then
         assertNotNull(completedLectures);
@@ -199,6 +204,7 @@ class LectureIntegrationTest {
 
         Student student = new Student();
         student.setName("홍길동");
+        studentRepository.save(student);
 
         int threadCount = 5; // 동일 유저가 5번 신청 시도
         ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
@@ -1,30 +1,51 @@
 package com.hhplus.hanghae_clean_arch;
 
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.BulkEnrollmentItem;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureHistory;
 import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentResultDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.CompletedLectureResponseDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryJdbcRepository;
 import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRow;
 import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentMetrics;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentStrategyType;
 import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.StudentResolver;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +57,21 @@ class LectureServiceTest {
     @Mock
     private LectureHistoryRepository lectureHistoryRepository;
 
+    @Mock
+    private LectureHistoryJdbcRepository lectureHistoryJdbcRepository;
+
+    @Mock
+    private LectureSeatSlotRepository lectureSeatSlotRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EnrollmentMetrics enrollmentMetrics;
+
+    @Mock
+    private StudentResolver studentResolver;
+
     @InjectMocks
     private LectureService lectureService;
 
@@ -51,15 +87,17 @@ class LectureServiceTest {
         student.setId(1L);
         student.setName("홍길동");
 
-        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
-        when(lectureHistoryRepository.save(any(LectureHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(lectureRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lecture));
+        when(lectureHistoryRepository.saveAndFlush(any(LectureHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         //when
         lectureService.applyLecture(1L, student);
 
         //then
         assertEquals(6, lecture.getCurrentEnrollment());
-        verify(lectureHistoryRepository, times(1)).save(any(LectureHistory.class));
+        verify(lectureHistoryRepository, times(1)).saveAndFlush(any(LectureHistory.class));
+        verify(enrollmentMetrics).recordStage(eq(EnrollmentMetrics.Stage.DUPLICATE_CHECK), eq(EnrollmentStrategyType.PESSIMISTIC), anyLong());
+        verify(enrollmentMetrics).recordStage(eq(EnrollmentMetrics.Stage.HISTORY_INSERT), eq(EnrollmentStrategyType.PESSIMISTIC), anyLong());
     }
 
     @Test
@@ -74,20 +112,58 @@ class LectureServiceTest {
         student.setId(1L);
         student.setName("홍길동");
 
-        LectureHistory existingHistory = new LectureHistory();
-        existingHistory.setLecture(lecture);
-        existingHistory.setStudent(student);
-
-        //Mock: 해당 학생이 이미 강의에 신청한 기록이 있는 상황
-        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
-        when(lectureHistoryRepository.existsByLectureAndStudent(lecture, student)).thenReturn(true);
+        //Mock: 해당 학생이 이미 강의에 신청한 기록이 있어 (lecture_id, student_id) 유니크 제약에 걸리는 상황
+        when(lectureRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lecture));
+        when(lectureHistoryRepository.saveAndFlush(any(LectureHistory.class)))
+                .thenThrow(constraintViolation(LectureHistory.UK_LECTURE_STUDENT));
 
         //when & then
         IllegalStateException exception = assertThrows(IllegalStateException.class,
                 () -> lectureService.applyLecture(1L, student));
 
         assertEquals("이미 신청된 강의입니다.", exception.getMessage());
-        verify(lectureHistoryRepository, never()).save(any(LectureHistory.class)); //저장 시도 안 함
+    }
+
+    @Test
+    @DisplayName("H2처럼 스키마와 인덱스 번호가 붙은 제약 이름도 중복 신청으로 판단한다")
+    void applyLecture_DuplicateApplication_QualifiedConstraintName() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 30, LocalDateTime.now());
+        lecture.setId(1L);
+        Student student = new Student();
+        student.setId(1L);
+
+        when(lectureRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lecture));
+        when(lectureHistoryRepository.saveAndFlush(any(LectureHistory.class)))
+                .thenThrow(constraintViolation("PUBLIC.UK_LECTURE_HISTORY_LECTURE_STUDENT_INDEX_A"));
+
+        //when & then
+        assertThrows(DuplicateApplicationException.class, () -> lectureService.applyLecture(1L, student));
+    }
+
+    @Test
+    @DisplayName("다른 제약 위반이나 이름을 알 수 없는 위반은 중복 신청으로 바꾸지 않고 그대로 전달한다")
+    void applyLecture_OtherConstraintViolation_Rethrown() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 30, LocalDateTime.now());
+        lecture.setId(1L);
+        Student student = new Student();
+        student.setId(1L);
+
+        DataIntegrityViolationException foreignKey = constraintViolation("fk_lecture_history_student");
+        DataIntegrityViolationException unnamed = new DataIntegrityViolationException("Duplicate entry");
+        when(lectureRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lecture));
+        when(lectureHistoryRepository.saveAndFlush(any(LectureHistory.class))).thenThrow(foreignKey, unnamed);
+
+        //when & then
+        assertSame(foreignKey, assertThrows(DataIntegrityViolationException.class, () -> lectureService.applyLecture(1L, student)));
+        assertSame(unnamed, assertThrows(DataIntegrityViolationException.class, () -> lectureService.applyLecture(1L, student)));
+        verify(enrollmentMetrics, never()).incrementRejection(EnrollmentMetrics.Rejection.DUPLICATE, 1L);
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry"), constraintName));
     }
 
     @Test
@@ -102,11 +178,11 @@ class LectureServiceTest {
         student.setId(1L);
         student.setName("홍길동");
 
-        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        when(lectureRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lecture));
 
         //when then
         assertThrows(IllegalStateException.class, () -> lectureService.applyLecture(1L, student));
-        verify(lectureHistoryRepository, never()).save(any(LectureHistory.class));
+        verify(lectureHistoryRepository, never()).saveAndFlush(any(LectureHistory.class));
     }
 
     //동시성 테스트
@@ -118,7 +194,7 @@ class LectureServiceTest {
         lecture.setId(1L);
         lecture.setCurrentEnrollment(22); //현재 인원
 
-        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        when(lectureRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lecture));
 
         //스레드 동시 실행을 위한 설정
         int threadCount = 20; //동시 신청
@@ -168,28 +244,16 @@ class LectureServiceTest {
         //given
         Long userId = 1L;
 
-        Lecture lecture1 = new Lecture("A특강", "김강사", 30, null);
-        Lecture lecture2 = new Lecture("B특강", "이강사", 30, null);
-
-        Student student = new Student();
-        student.setId(userId);
-        student.setName("홍길동");
-
-        LectureHistory history1 = new LectureHistory();
-        history1.setLecture(lecture1);
-        history1.setStudent(student);
-
-        LectureHistory history2 = new LectureHistory();
-        history2.setLecture(lecture2);
-        history2.setStudent(student);
+        List<CompletedLectureResponseDto> completed = Arrays.asList(
+                new CompletedLectureResponseDto(1L, "A특강", "김강사", null, LocalDateTime.now()),
+                new CompletedLectureResponseDto(2L, "B특강", "이강사", null, LocalDateTime.now())
+        );
 
-        List<LectureHistory> histories = Arrays.asList(history1, history2);
-
-        when(lectureHistoryRepository.findByStudentIdAndStatus(userId, ApplicationStatus.APPLIED))
-                .thenReturn(histories); // 특정 유저의 완료된 강의 목록을 반환하도록 설정
+        when(lectureHistoryRepository.findCompletedLectures(userId, ApplicationStatus.APPLIED))
+                .thenReturn(completed); // 특정 유저의 완료된 강의 목록을 반환하도록 설정
 
         //when
-        List<Lecture> completedLectures = lectureService.getCompletedLecturesByUserId(userId);
+        List<CompletedLectureResponseDto> completedLectures = lectureService.getCompletedLecturesByUserId(userId);
 
         //then
         assertNotNull(completedLectures);
@@ -198,4 +262,125 @@ class LectureServiceTest {
         assertEquals("김강사", completedLectures.get(0).getInstructor()); // 첫 번째 강연자 확인
     }
 
+    @Test
+    @DisplayName("일괄 신청은 중복과 정원 초과 항목만 거절하고 나머지를 한 번에 저장한다")
+    void bulkApplyLectures_ReportsPerItem() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 3, LocalDateTime.now());
+        lecture.setId(1L);
+        lecture.setCurrentEnrollment(1);
+
+        when(lectureRepository.findAllByIdWithLock(any())).thenReturn(List.of(lecture));
+        when(lectureHistoryRepository.findAllByLectureIdAndStudentIdIn(eq(1L), any()))
+                .thenReturn(List.of(history(lecture, student(10L), ApplicationStatus.APPLIED)));
+
+        List<BulkEnrollmentItem> items = List.of(
+                new BulkEnrollmentItem(1L, student(10L)), // 이미 신청
+                new BulkEnrollmentItem(1L, student(11L)),
+                new BulkEnrollmentItem(1L, student(11L)), // 요청 내 중복
+                new BulkEnrollmentItem(1L, student(12L)),
+                new BulkEnrollmentItem(1L, student(13L)), // 정원 초과
+                new BulkEnrollmentItem(2L, student(14L))  // 없는 강의
+        );
+
+        //when
+        List<BulkEnrollmentResultDto> results = lectureService.bulkApplyLectures(items);
+
+        //then
+        assertEquals(List.of(false, true, false, true, false, false),
+                results.stream().map(BulkEnrollmentResultDto::isApplied).toList());
+        assertEquals("이미 신청된 강의입니다.", results.get(2).getReason());
+        assertEquals("강의 정원이 초과되었습니다.", results.get(4).getReason());
+        assertEquals("해당 강의를 찾을 수 없습니다.", results.get(5).getReason());
+        assertEquals(3, lecture.getCurrentEnrollment());
+        verify(lectureHistoryJdbcRepository, times(1)).insertAll(argThat((List<LectureHistoryRow> rows) -> rows.size() == 2));
+    }
+
+    @Test
+    @DisplayName("일괄 신청의 미등록 학생은 받아들여진 항목만 한 번에 등록한다")
+    void bulkApplyLectures_RegistersOnlyAcceptedNewStudents() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 2, LocalDateTime.now());
+        lecture.setId(1L);
+
+        when(lectureRepository.findAllByIdWithLock(any())).thenReturn(List.of(lecture));
+        when(lectureHistoryRepository.findAllByLectureIdAndStudentIdIn(eq(1L), any())).thenReturn(List.of());
+        //user-1은 이미 등록된 학생, user-2/user-3은 신규
+        when(studentResolver.findRegisteredIds(any())).thenReturn(Map.of("external:user-1", 10L));
+        AtomicLong sequence = new AtomicLong(100);
+        doAnswer(invocation -> {
+            Collection<Student> students = invocation.getArgument(0);
+            students.forEach(student -> student.setId(sequence.incrementAndGet()));
+            return null;
+        }).when(studentResolver).registerAll(any());
+
+        List<BulkEnrollmentItem> items = List.of(
+                new BulkEnrollmentItem(1L, externalStudent("user-1")),
+                new BulkEnrollmentItem(1L, externalStudent("user-2")),
+                new BulkEnrollmentItem(1L, externalStudent("user-2")), // 요청 내 중복
+                new BulkEnrollmentItem(1L, externalStudent("user-3"))  // 정원 초과
+        );
+
+        //when
+        List<BulkEnrollmentResultDto> results = lectureService.bulkApplyLectures(items);
+
+        //then
+        assertEquals(List.of(true, true, false, false), results.stream().map(BulkEnrollmentResultDto::isApplied).toList());
+        assertEquals(10L, results.get(0).getStudentId());
+        assertEquals(101L, results.get(1).getStudentId());
+        assertNull(results.get(3).getStudentId());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Student>> registered = ArgumentCaptor.forClass(Collection.class);
+        verify(studentResolver, times(1)).registerAll(registered.capture());
+        assertEquals(List.of("user-2"), registered.getValue().stream().map(Student::getExternalId).toList());
+        verify(lectureHistoryRepository).findAllByLectureIdAndStudentIdIn(1L, Set.of(10L));
+    }
+
+    @Test
+    @DisplayName("일괄 신청은 취소했던 학생의 신청을 되살리고 새로 INSERT하지 않는다")
+    void bulkApplyLectures_ReactivatesCanceledHistory() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 3, LocalDateTime.now());
+        lecture.setId(1L);
+        lecture.setCurrentEnrollment(1);
+        LectureHistory canceled = history(lecture, student(10L), ApplicationStatus.CANCELED);
+
+        when(lectureRepository.findAllByIdWithLock(any())).thenReturn(List.of(lecture));
+        when(lectureHistoryRepository.findAllByLectureIdAndStudentIdIn(eq(1L), any()))
+                .thenReturn(List.of(canceled, history(lecture, student(11L), ApplicationStatus.APPLIED)));
+
+        //when
+        List<BulkEnrollmentResultDto> results = lectureService.bulkApplyLectures(List.of(
+                new BulkEnrollmentItem(1L, student(10L)),
+                new BulkEnrollmentItem(1L, student(11L)),  // 신청 중
+                new BulkEnrollmentItem(1L, student(12L))));
+
+        //then
+        assertEquals(List.of(true, false, true), results.stream().map(BulkEnrollmentResultDto::isApplied).toList());
+        assertEquals(ApplicationStatus.APPLIED, canceled.getStatus());
+        assertEquals(3, lecture.getCurrentEnrollment());
+        verify(lectureHistoryJdbcRepository).insertAll(argThat((List<LectureHistoryRow> rows) ->
+                rows.size() == 1 && rows.get(0).studentId().equals(12L)));
+    }
+
+    private LectureHistory history(Lecture lecture, Student student, ApplicationStatus status) {
+        LectureHistory history = new LectureHistory();
+        history.setLecture(lecture);
+        history.setStudent(student);
+        history.setStatus(status);
+        return history;
+    }
+
+    private Student externalStudent(String externalId) {
+        Student student = new Student();
+        student.setName("홍길동");
+        student.setExternalId(externalId);
+        return student;
+    }
+
+    private Student student(Long id) {
+        Student student = new Student();
+        student.setId(id);
+        return student;
+    }
 }
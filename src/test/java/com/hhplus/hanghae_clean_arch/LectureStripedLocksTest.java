@@ -0,0 +1,81 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureStripedLocks;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LectureStripedLocksTest {
+
+    @Test
+    @DisplayName("같은 강의의 요청은 한 번에 하나씩만 실행된다")
+    void run_SerializesSameLecture() throws InterruptedException {
+        //given
+        LectureStripedLocks lectureStripedLocks = new LectureStripedLocks(true, 16, 5000);
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    lectureStripedLocks.run(1L, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        sleep(10);
+                        running.decrementAndGet();
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 락을 얻지 못하면 혼잡으로 거절한다")
+    void run_TimesOut() throws InterruptedException {
+        //given
+        LectureStripedLocks lectureStripedLocks = new LectureStripedLocks(true, 16, 50);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> lectureStripedLocks.run(1L, () -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        holding.await();
+
+        //when & then
+        assertThrows(LectureBusyException.class, () -> lectureStripedLocks.run(1L, () -> {
+        }));
+        release.countDown();
+        holder.join();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.LectureRequestDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2로 플랫폼 스레드 Tomcat과 가상 스레드 Tomcat에서 동시 클라이언트 5,000명의 p99 지연과 처리량을 비교한다.
+ * 가상 스레드 모드에서는 DB 작업이 커넥션 풀 크기만큼만 들어가고, 넘치는 요청은 커넥션 풀 고갈(5xx) 대신 429로 거절되는지 검증한다.
+ * 실행 시간이 길어 기본 test 태스크에서는 제외되며, ./gradlew perfTest로 실행한다.
+ */
+@Tag("perf")
+class LectureThreadModeLoadTest {
+
+    private static final int CLIENT_COUNT = 5000;
+    //작은 풀로 요청을 몰아 허가 대기/거절이 반드시 일어나게 함 (허가 수는 풀 크기를 따름)
+    private static final int POOL_SIZE = 4;
+    private static final int CAPACITY = 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("스레드 모드별 /lecture/apply, /lecture/completed 부하 비교 (가상 스레드는 풀 크기만큼만 DB에 들어가고 나머지는 429)")
+    void compareThreadModes() throws Exception {
+        List<String> report = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            report.addAll(runScenario(virtualThreads));
+        }
+
+        System.out.println("mode      endpoint              p50(ms)  p99(ms)  throughput(req/s)  2xx   429   5xx  awaiting-conn(max)");
+        report.forEach(System.out::println);
+    }
+
+    private List<String> runScenario(boolean virtualThreads) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(HanghaeCleanArchApplication.class)
+                .profiles("h2")
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        //허가 없이 커넥션을 기다리면 짧은 시간 안에 풀 고갈(5xx)로 드러나도록
+                        "spring.datasource.hikari.connection-timeout=1000",
+                        "lecture.db-limiter.acquire-timeout-ms=200",
+                        "spring.jpa.show-sql=false")
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getWebServer().getPort();
+            HikariPoolMXBean pool = context.getBean(HikariDataSource.class).getHikariPoolMXBean();
+
+            Lecture lecture = context.getBean(LectureRepository.class).save(new Lecture("부하 테스트 특강", "김강사", CAPACITY, LocalDateTime.now()));
+
+            Student student = new Student();
+            student.setName("조회용 학생");
+            context.getBean(StudentRepository.class).save(student);
+
+            Result apply = measure(pool, i -> HttpRequest.newBuilder(URI.create(baseUrl + "/lecture/apply"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(toJson(new LectureRequestDto(lecture.getId(), null, "학생" + i, "load-" + i))))
+                    .build());
+            Result completed = measure(pool, i -> HttpRequest.newBuilder(URI.create(baseUrl + "/lecture/completed/" + student.getId()))
+                    .GET()
+                    .build());
+
+            //정원은 스레드 모드와 관계없이 지켜짐
+            assertTrue(context.getBean(LectureRepository.class).findById(lecture.getId()).orElseThrow().getCurrentEnrollment() <= CAPACITY);
+            if (virtualThreads) {
+                assertPoolSizedAdmission(apply);
+                assertPoolSizedAdmission(completed);
+                //요청이 풀보다 훨씬 많으므로 일부는 허가를 얻지 못하고 429로 거절되어야 함
+                assertTrue(apply.busy() > 0, "가상 스레드 모드에서 429 거절이 없습니다.");
+            }
+
+            String mode = virtualThreads ? "virtual " : "platform";
+            return List.of(mode + "  POST /lecture/apply    " + apply.summary(),
+                    mode + "  GET /lecture/completed " + completed.summary());
+        }
+    }
+
+    //커넥션을 기다리는 스레드는 허가를 얻은 요청(최대 풀 크기)과 스케줄러 스레드 하나뿐이고, 풀 고갈로 인한 5xx는 없어야 함
+    private void assertPoolSizedAdmission(Result result) {
+        assertEquals(0, result.serverErrors(), "커넥션 풀 고갈 등으로 5xx가 발생했습니다.");
+        assertEquals(0, result.connectionFailures(), "응답을 받지 못한 요청이 있습니다.");
+        assertTrue(result.maxAwaitingConnection() <= POOL_SIZE + 1,
+                "커넥션 대기 스레드 " + result.maxAwaitingConnection() + "개가 풀 크기 " + POOL_SIZE + "를 넘었습니다.");
+    }
+
+    //동시 클라이언트를 한 번에 출발시키고 요청별 지연, 상태 코드, 커넥션 대기 스레드 수를 수집
+    private Result measure(HikariPoolMXBean pool, IntFunction<HttpRequest> requestFactory) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(CLIENT_COUNT));
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger busy = new AtomicInteger();
+        AtomicInteger serverErrors = new AtomicInteger();
+        AtomicInteger connectionFailures = new AtomicInteger();
+        AtomicInteger maxAwaiting = new AtomicInteger();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CLIENT_COUNT);
+
+        Thread sampler = Thread.ofPlatform().daemon(true).start(() -> {
+            while (sampling.get()) {
+                maxAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                Thread.onSpinWait();
+            }
+        });
+
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENT_COUNT; i++) {
+                HttpRequest request = requestFactory.apply(i);
+                executorService.execute(() -> {
+                    try {
+                        ready.await();
+                        long start = System.nanoTime();
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        latencies.add(System.nanoTime() - start);
+                        if (response.statusCode() >= 500) {
+                            serverErrors.incrementAndGet();
+                        } else if (response.statusCode() == 429) {
+                            busy.incrementAndGet();
+                        } else if (response.statusCode() < 300) {
+                            success.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        //연결 실패도 결과에 반영
+                        connectionFailures.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long startedAt = System.nanoTime();
+            ready.countDown();
+            done.await();
+            long elapsedNanos = System.nanoTime() - startedAt;
+            sampling.set(false);
+            sampler.join();
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+
+            return new Result(percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    CLIENT_COUNT / (elapsedNanos / 1_000_000_000.0),
+                    success.get(), busy.get(), serverErrors.get(), connectionFailures.get(), maxAwaiting.get());
+        }
+    }
+
+    private record Result(double p50, double p99, double throughput, int success, int busy, int serverErrors,
+                          int connectionFailures, int maxAwaitingConnection) {
+        private String summary() {
+            return String.format("%8.1f %8.1f %18.1f %5d %5d %5d %19d", p50, p99, throughput, success, busy, serverErrors, maxAwaitingConnection);
+        }
+    }
+
+    private double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private String toJson(LectureRequestDto requestDto) {
+        try {
+            return objectMapper.writeValueAsString(requestDto);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent.ChangeType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.RemainingSeatsDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.RemainingSeatsStream;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SeatReservationManager;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RemainingSeatsStreamTest {
+
+    private static final Long LECTURE_ID = 1L;
+
+    private final SeatReservationManager seatReservationManager = mock(SeatReservationManager.class);
+
+    private TestStream stream;
+
+    @AfterEach
+    void tearDown() {
+        if (stream != null) {
+            stream.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전송 중에 들어온 잔여 좌석은 최신 값 하나로 합쳐서 보낸다")
+    void publish_CoalescesToLatestValue() throws Exception {
+        //given
+        stream = new TestStream(60_000, 10, 10_000, 0);
+        when(seatReservationManager.getRemainingSeats(LECTURE_ID)).thenReturn(10, 7, 6, 5);
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(LECTURE_ID);
+        assertTrue(emitter.entered.await(5, TimeUnit.SECONDS));
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            stream.markChanged(new LectureEnrollmentChangedEvent(LECTURE_ID, (long) i, ChangeType.APPLIED));
+            stream.publish();
+        }
+        emitter.gate.countDown();
+
+        //then
+        assertTrue(emitter.awaitSent(2));
+        Thread.sleep(100);
+        assertEquals(List.of("10", "5"), emitter.sent);
+        assertFalse(emitter.completed);
+    }
+
+    @Test
+    @DisplayName("보내지 못한 값이 계속 덮어써지는 구독자는 끊는다")
+    void publish_DropsSubscriberThatMissesUpdates() throws Exception {
+        //given
+        stream = new TestStream(60_000, 1, 10_000, 0);
+        when(seatReservationManager.getRemainingSeats(LECTURE_ID)).thenReturn(10, 9, 8, 7);
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(LECTURE_ID);
+        assertTrue(emitter.entered.await(5, TimeUnit.SECONDS));
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            stream.markChanged(new LectureEnrollmentChangedEvent(LECTURE_ID, (long) i, ChangeType.APPLIED));
+            stream.publish();
+        }
+
+        //then
+        assertTrue(emitter.completed);
+        emitter.gate.countDown();
+
+        //끊긴 뒤의 변경은 표시조차 하지 않음
+        stream.markChanged(new LectureEnrollmentChangedEvent(LECTURE_ID, 9L, ChangeType.APPLIED));
+        stream.publish();
+        Thread.sleep(100);
+        assertTrue(emitter.sent.size() <= 2);
+    }
+
+    @Test
+    @DisplayName("한 번 전송이 기준 시간보다 오래 걸린 구독자는 끊는다")
+    void send_DropsSlowSubscriber() throws Exception {
+        //given
+        stream = new TestStream(60_000, 10, 50, 200);
+        when(seatReservationManager.getRemainingSeats(LECTURE_ID)).thenReturn(10);
+
+        //when
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(LECTURE_ID);
+        emitter.gate.countDown();
+
+        //then
+        assertTrue(emitter.awaitSent(1));
+        Thread.sleep(100);
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    @DisplayName("heartbeat는 일정 시간 아무것도 받지 못한 구독자에게만 보낸다")
+    void heartbeat_OnlyForIdleSubscribers() throws Exception {
+        //given
+        stream = new TestStream(200, 10, 10_000, 0);
+        when(seatReservationManager.getRemainingSeats(LECTURE_ID)).thenReturn(10);
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(LECTURE_ID);
+        emitter.gate.countDown();
+        assertTrue(emitter.awaitSent(1));
+
+        //when
+        stream.heartbeat();
+        Thread.sleep(100);
+        List<String> afterRecentSend = List.copyOf(emitter.sent);
+        Thread.sleep(200);
+        stream.heartbeat();
+
+        //then
+        assertEquals(List.of("10"), afterRecentSend);
+        assertTrue(emitter.awaitSent(2));
+        assertEquals(List.of("10", "heartbeat"), emitter.sent);
+    }
+
+    @Test
+    @DisplayName("구독자 수가 한도를 넘으면 구독을 거절한다")
+    void subscribe_OverLimit_Rejected() {
+        //given
+        stream = new TestStream(60_000, 10, 10_000, 0, 1);
+        when(seatReservationManager.getRemainingSeats(LECTURE_ID)).thenReturn(10);
+        ((RecordingEmitter) stream.subscribe(LECTURE_ID)).gate.countDown();
+
+        //when //then
+        assertThrows(LectureBusyException.class, () -> stream.subscribe(LECTURE_ID));
+    }
+
+    @Test
+    @DisplayName("없는 강의의 구독이 실패해도 구독자 자리를 차지하지 않는다")
+    void subscribe_UnknownLecture_ReleasesSlot() {
+        //given
+        stream = new TestStream(60_000, 10, 10_000, 0, 1);
+        when(seatReservationManager.getRemainingSeats(2L)).thenThrow(new IllegalArgumentException("해당 강의를 찾을 수 없습니다."));
+        when(seatReservationManager.getRemainingSeats(LECTURE_ID)).thenReturn(10);
+        assertThrows(IllegalArgumentException.class, () -> stream.subscribe(2L));
+        assertThrows(IllegalArgumentException.class, () -> stream.subscribe(2L));
+
+        //when
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(LECTURE_ID);
+
+        //then
+        emitter.gate.countDown();
+        assertNotNull(emitter);
+    }
+
+    private class TestStream extends RemainingSeatsStream {
+        private final long sendDelayMillis;
+
+        TestStream(long heartbeatMillis, int maxMissedUpdates, long slowSendMillis, long sendDelayMillis) {
+            this(heartbeatMillis, maxMissedUpdates, slowSendMillis, sendDelayMillis, 100);
+        }
+
+        TestStream(long heartbeatMillis, int maxMissedUpdates, long slowSendMillis, long sendDelayMillis, int maxSubscribers) {
+            super(seatReservationManager, 60_000, heartbeatMillis, 2, maxSubscribers, maxMissedUpdates, slowSendMillis);
+            this.sendDelayMillis = sendDelayMillis;
+        }
+
+        @Override
+        protected SseEmitter createEmitter(long timeoutMillis) {
+            return new RecordingEmitter(timeoutMillis, sendDelayMillis);
+        }
+    }
+
+    //첫 전송은 gate가 열릴 때까지 막고, 보낸 내용을 문자열로 기록하는 emitter
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final long sendDelayMillis;
+        private volatile boolean completed;
+
+        RecordingEmitter(long timeoutMillis, long sendDelayMillis) {
+            super(timeoutMillis);
+            this.sendDelayMillis = sendDelayMillis;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            entered.countDown();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+                Thread.sleep(sendDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            sent.add(describe(builder));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private boolean awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                Thread.sleep(10);
+            }
+            return true;
+        }
+
+        private static String describe(SseEventBuilder builder) {
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof RemainingSeatsDto dto) {
+                    return String.valueOf(dto.getRemainingSeats());
+                }
+            }
+            return "heartbeat";
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent.ChangeType;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.CompletedLectureCacheEvictor;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ConnectionPermitLimiter;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ReplicaReadRouter;
+import com.hhplus.hanghae_clean_arch.config.CacheConfig;
+import com.hhplus.hanghae_clean_arch.config.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 내장 H2 두 개를 primary/replica로 두고 실제 커넥션이 어느 쪽으로 가는지 검증
+ */
+class ReplicaRoutingH2Test {
+
+    private static final Long STUDENT_ID = 1L;
+
+    private DataSource dataSource;
+    private PlatformTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private ReplicaReadRouter replicaReadRouter;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Target.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Target.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        replicaReadRouter = new ReplicaReadRouter(new ConnectionPermitLimiter(false, 10, 3000), true, 60_000);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica DB, 쓰기 트랜잭션은 primary DB에서 조회한다")
+    void transaction_RoutesByReadOnly() {
+        //when //then
+        assertEquals("primary", new TransactionTemplate(transactionManager).execute(status -> whereAmI()));
+        assertEquals("replica", readOnly().execute(status -> whereAmI()));
+    }
+
+    @Test
+    @DisplayName("방금 신청 상태가 바뀐 학생은 읽기 전용 조회도 primary DB에서 읽는다")
+    void read_RecentWriterGoesToPrimary() {
+        //given
+        assertEquals("replica", replicaReadRouter.read(STUDENT_ID, () -> readOnly().execute(status -> whereAmI())));
+
+        //when
+        replicaReadRouter.markWritten(new LectureEnrollmentChangedEvent(1L, STUDENT_ID, ChangeType.APPLIED));
+
+        //then
+        assertEquals("primary", replicaReadRouter.read(STUDENT_ID, () -> readOnly().execute(status -> whereAmI())));
+        assertEquals("replica", replicaReadRouter.read(2L, () -> readOnly().execute(status -> whereAmI())));
+    }
+
+    @Test
+    @DisplayName("커밋 후 캐시 제거 시점에는 이미 primary 조회로 바뀌어 있어 이전 값을 다시 캐시하지 않는다")
+    void afterCommit_MarkWrittenRunsBeforeEviction() {
+        //given
+        List<String> readsOnEviction = new CopyOnWriteArrayList<>();
+        Cache cache = mock(Cache.class);
+        doAnswer(invocation -> readsOnEviction.add(
+                replicaReadRouter.read(STUDENT_ID, () -> readOnly().execute(status -> whereAmI()))))
+                .when(cache).evict(any());
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(CacheConfig.COMPLETED_LECTURES)).thenReturn(cache);
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(TransactionConfig.class);
+            //캐시 제거를 먼저 등록해도 @Order로 변경 기록이 먼저 실행되어야 함
+            context.registerBean(CompletedLectureCacheEvictor.class, () -> new CompletedLectureCacheEvictor(cacheManager));
+            context.registerBean(ReplicaReadRouter.class, () -> replicaReadRouter);
+            context.refresh();
+            ApplicationEventPublisher publisher = context;
+
+            //when
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    publisher.publishEvent(new LectureEnrollmentChangedEvent(1L, STUDENT_ID, ChangeType.APPLIED)));
+        }
+
+        //then
+        assertEquals(List.of("primary"), readsOnEviction);
+    }
+
+    //커밋 이후 리스너 안에서도 이전 트랜잭션 커넥션에 참여하지 않도록 새 트랜잭션으로 조회
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class);
+    }
+
+    //DB마다 자기 이름을 넣어 두어 조회 결과로 어느 DB인지 구분
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE db_marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO db_marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    //@TransactionalEventListener를 커밋 이후로 등록하기 위한 설정
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+    }
+}
@@ -0,0 +1,291 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureHistory;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureStudentId;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.EnrollmentMetrics;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureSeatSlotManager;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SeatReservationManager;
+import com.hhplus.hanghae_clean_arch.exception.DuplicateApplicationException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatReservationManagerTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @Mock
+    private LectureHistoryRepository lectureHistoryRepository;
+
+    @Mock
+    private LectureSeatSlotManager lectureSeatSlotManager;
+
+    private SeatReservationManager seatReservationManager;
+
+    @BeforeEach
+    void setUp() {
+        //슬롯을 쓰지 않는 강의는 Lecture의 신청 인원을 그대로 사용
+        lenient().when(lectureSeatSlotManager.getCurrentEnrollment(any(Lecture.class)))
+                .thenAnswer(invocation -> invocation.<Lecture>getArgument(0).getCurrentEnrollment());
+        lenient().when(lectureSeatSlotManager.getCurrentEnrollments(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Lecture>>getArgument(0).stream()
+                        .collect(Collectors.toMap(Lecture::getId, Lecture::getCurrentEnrollment)));
+        seatReservationManager = manager(60_000);
+    }
+
+    private SeatReservationManager manager(long resyncMillis) {
+        return new SeatReservationManager(lectureRepository, lectureHistoryRepository, lectureSeatSlotManager,
+                new EnrollmentMetrics(new SimpleMeterRegistry()), true, resyncMillis);
+    }
+
+    @Test
+    @DisplayName("기동 시 DB의 정원과 신청 인원으로 잔여 좌석을 적재한다")
+    void warmUp_LoadsRemainingSeats() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 30, LocalDateTime.now());
+        lecture.setId(1L);
+        lecture.setCurrentEnrollment(25);
+
+        when(lectureRepository.findAll()).thenReturn(List.of(lecture));
+        when(lectureHistoryRepository.findLectureStudentIdsByStatus(ApplicationStatus.APPLIED))
+                .thenReturn(List.of(new LectureStudentId(1L, 7L)));
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 7L)).thenReturn(Optional.of(history(ApplicationStatus.APPLIED)));
+
+        //when
+        seatReservationManager.warmUp();
+
+        //then
+        assertEquals(5, seatReservationManager.getRemainingSeats(1L));
+        DuplicateApplicationException exception = assertThrows(DuplicateApplicationException.class,
+                () -> seatReservationManager.reserve(1L, 7L));
+        assertEquals("이미 신청된 강의입니다.", exception.getMessage());
+        verify(lectureRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("다시 적재해도 강의 수와 관계없이 조회는 세 번이며, 이전 상태를 비우지 않고 교체한다")
+    void warmUp_SwapsStatesWithoutPerLectureQueries() {
+        //given
+        Lecture first = new Lecture("특강1", "강사1", 10, LocalDateTime.now());
+        first.setId(1L);
+        Lecture second = new Lecture("특강2", "강사2", 10, LocalDateTime.now());
+        second.setId(2L);
+        second.setCurrentEnrollment(10);
+        when(lectureRepository.findAll()).thenReturn(List.of(first, second));
+        when(lectureHistoryRepository.findLectureStudentIdsByStatus(ApplicationStatus.APPLIED)).thenReturn(List.of());
+        seatReservationManager.warmUp();
+        seatReservationManager.reserve(1L, 1L);
+
+        //when
+        seatReservationManager.warmUp();
+
+        //then
+        assertEquals(10, seatReservationManager.getRemainingSeats(1L));
+        assertEquals(0, seatReservationManager.getRemainingSeats(2L));
+        verify(lectureHistoryRepository, times(2)).findLectureStudentIdsByStatus(ApplicationStatus.APPLIED);
+        verify(lectureRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("DB에서 정원 초과로 거절되면 좌석을 돌려주지 않고 DB 기준 잔여 좌석으로 낮춘다")
+    void rejectByCapacity_ResyncsFromDb() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 3, LocalDateTime.now());
+        lecture.setId(1L);
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        seatReservationManager.reserve(1L, 1L);
+
+        //다른 노드의 신청으로 DB는 이미 정원이 참
+        lecture.setCurrentEnrollment(3);
+
+        //when
+        seatReservationManager.rejectByCapacity(1L, 1L);
+
+        //then
+        assertEquals(0, seatReservationManager.getRemainingSeats(1L));
+        assertThrows(LectureFullException.class, () -> seatReservationManager.reserve(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("정원 초과 거절 후에도 DB에 남은 좌석보다 많이 돌려주지 않는다")
+    void rejectByCapacity_KeepsInFlightReservations() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 3, LocalDateTime.now());
+        lecture.setId(1L);
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        seatReservationManager.reserve(1L, 1L);
+        seatReservationManager.reserve(1L, 2L);
+
+        //DB에는 아직 아무도 커밋되지 않았지만 1번 학생은 거절됨
+        //when
+        seatReservationManager.rejectByCapacity(1L, 1L);
+
+        //then (커밋 전인 2번 학생의 선점은 유지)
+        assertEquals(1, seatReservationManager.getRemainingSeats(1L));
+        assertThrows(DuplicateApplicationException.class, () -> seatReservationManager.reserve(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("선점을 되돌리면 좌석과 학생 정보가 복구된다")
+    void release_RestoresSeat() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 1, LocalDateTime.now());
+        lecture.setId(1L);
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+
+        seatReservationManager.reserve(1L, 1L);
+
+        //when
+        seatReservationManager.release(1L, 1L);
+
+        //then
+        assertEquals(1, seatReservationManager.getRemainingSeats(1L));
+        assertDoesNotThrow(() -> seatReservationManager.reserve(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("메모리 잔여 좌석이 0이어도 다른 노드의 취소로 DB에 좌석이 났으면 다시 읽어 선점한다")
+    void reserve_ResyncsAfterCancelOnOtherNode() {
+        //given
+        seatReservationManager = manager(0);
+        Lecture lecture = new Lecture("특강1", "강사1", 2, LocalDateTime.now());
+        lecture.setId(1L);
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        seatReservationManager.reserve(1L, 1L);
+        seatReservationManager.reserve(1L, 2L);
+        seatReservationManager.confirm(1L, 1L);
+        seatReservationManager.confirm(1L, 2L);
+        lecture.setCurrentEnrollment(2);
+        assertThrows(LectureFullException.class, () -> seatReservationManager.reserve(1L, 3L));
+
+        //다른 노드에서 1번 학생이 취소
+        lecture.setCurrentEnrollment(1);
+
+        //when
+        seatReservationManager.reserve(1L, 3L);
+
+        //then
+        assertEquals(0, seatReservationManager.getRemainingSeats(1L));
+    }
+
+    @Test
+    @DisplayName("다시 읽을 때 아직 커밋되지 않은 선점은 DB 잔여 좌석에서 뺀다")
+    void getRemainingSeats_ResyncExcludesPendingReservations() {
+        //given
+        seatReservationManager = manager(0);
+        Lecture lecture = new Lecture("특강1", "강사1", 2, LocalDateTime.now());
+        lecture.setId(1L);
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+        seatReservationManager.reserve(1L, 1L);
+        seatReservationManager.reserve(1L, 2L);
+
+        //when (DB에는 아직 아무도 커밋되지 않음)
+        int remaining = seatReservationManager.getRemainingSeats(1L);
+
+        //then
+        assertEquals(0, remaining);
+    }
+
+    @Test
+    @DisplayName("메모리에는 신청 중이지만 다른 노드에서 취소한 학생은 DB를 확인해 다시 선점한다")
+    void reserve_ReappliesAfterCancelOnOtherNode() {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 10, LocalDateTime.now());
+        lecture.setId(1L);
+        when(lectureRepository.findAll()).thenReturn(List.of(lecture));
+        when(lectureHistoryRepository.findLectureStudentIdsByStatus(ApplicationStatus.APPLIED))
+                .thenReturn(List.of(new LectureStudentId(1L, 7L)));
+        seatReservationManager.warmUp();
+        when(lectureHistoryRepository.findByLectureIdAndStudentId(1L, 7L)).thenReturn(Optional.of(history(ApplicationStatus.CANCELED)));
+
+        //when //then
+        assertDoesNotThrow(() -> seatReservationManager.reserve(1L, 7L));
+        assertThrows(DuplicateApplicationException.class, () -> seatReservationManager.reserve(1L, 7L));
+        verify(lectureHistoryRepository, times(1)).findByLectureIdAndStudentId(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 강의는 선점할 수 없다")
+    void reserve_LectureNotFound() {
+        when(lectureRepository.findById(1L)).thenReturn(Optional.empty());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> seatReservationManager.reserve(1L, 1L));
+        assertEquals("해당 강의를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    /**
+     * 잔여 좌석 5석에 40명이 동시에 선점을 시도했을 때, 5명만 성공하고 좌석이 음수가 되지 않는 것을 검증
+     */
+    @Test
+    @DisplayName("동시 선점 시 잔여 좌석 수만큼만 성공한다")
+    void reserve_Concurrency() throws InterruptedException {
+        //given
+        Lecture lecture = new Lecture("특강1", "강사1", 30, LocalDateTime.now());
+        lecture.setId(1L);
+        lecture.setCurrentEnrollment(25);
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture));
+
+        int threadCount = 40;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failureCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            long studentId = i + 1;
+            executorService.execute(() -> {
+                try {
+                    seatReservationManager.reserve(1L, studentId);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    failureCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertEquals(5, successCount.get());
+        assertEquals(35, failureCount.get());
+        assertEquals(0, seatReservationManager.getRemainingSeats(1L));
+    }
+
+    private LectureHistory history(ApplicationStatus status) {
+        LectureHistory history = new LectureHistory();
+        history.setStatus(status);
+        return history;
+    }
+}
@@ -0,0 +1,183 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.ApplicationStatus;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.BulkEnrollmentItem;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Lecture;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.dto.BulkEnrollmentResultDto;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureHistoryRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureSeatSlotManager;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.LectureService;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.ShardedCounterEnrollmentStrategy;
+import com.hhplus.hanghae_clean_arch.exception.LectureBusyException;
+import com.hhplus.hanghae_clean_arch.exception.LectureFullException;
+import com.hhplus.hanghae_clean_arch.exception.SeatSlottedLectureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2로 카운터 슬롯 신청의 불변식(슬롯 합 == 신청 내역 수 <= 정원, 슬롯 정원 합 == 강의 정원)을 검증
+ */
+@SpringBootTest(properties = "lecture.sharded-counter.slots=4")
+@ActiveProfiles("h2")
+class ShardedCounterEnrollmentTest {
+
+    private static final int SLOTS = 4;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private LectureHistoryRepository lectureHistoryRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureSeatSlotManager lectureSeatSlotManager;
+
+    @Autowired
+    private ShardedCounterEnrollmentStrategy shardedCounterEnrollmentStrategy;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("여러 슬롯에 동시에 신청해도 정원만큼만 신청되고 슬롯 합과 신청 내역 수가 같다")
+    void apply_ConcurrentRequests_KeepInvariant() throws InterruptedException {
+        //given
+        int capacity = 20;
+        Lecture lecture = saveLecture(capacity);
+        List<Student> students = saveStudents(60);
+
+        //when
+        Outcome outcome = applyConcurrently(lecture.getId(), students);
+
+        //then
+        assertInvariant(lecture.getId(), capacity, outcome.success.get());
+        assertEquals(students.size(), outcome.success.get() + outcome.full.get() + outcome.busy.get());
+    }
+
+    @Test
+    @DisplayName("한 슬롯에 신청이 몰려 정원을 옮겨와도(refill) 정원을 넘지 않고 슬롯 정원 합이 유지된다")
+    void apply_SameSlotRequests_RefillKeepsInvariant() throws InterruptedException {
+        //given
+        int capacity = 8;
+        Lecture lecture = saveLecture(capacity);
+        //모두 같은 슬롯에 배정되는 학생 (슬롯당 정원 2명이라 나머지는 다른 슬롯에서 옮겨와야 함)
+        List<Student> students = saveStudents(60).stream()
+                .filter(student -> lectureSeatSlotManager.slotOf(student, SLOTS) == 1)
+                .limit(12)
+                .toList();
+
+        //when
+        Outcome outcome = applyConcurrently(lecture.getId(), students);
+
+        //then
+        assertInvariant(lecture.getId(), capacity, outcome.success.get());
+        Integer slotOneCapacity = jdbcTemplate.queryForObject(
+                "SELECT capacity FROM lecture_seat_slot WHERE lecture_id = ? AND slot_no = 1", Integer.class, lecture.getId());
+        assertTrue(slotOneCapacity > capacity / SLOTS);
+    }
+
+    @Test
+    @DisplayName("슬롯으로 전환된 강의는 Lecture 행 기준 신청을 거절하고, 일괄 신청은 슬롯 인원으로 반영한다")
+    void slottedLecture_RejectsRowPathsAndBulkUsesSlots() {
+        //given
+        int capacity = 10;
+        Lecture lecture = saveLecture(capacity);
+        List<Student> students = saveStudents(5);
+        shardedCounterEnrollmentStrategy.apply(lecture.getId(), students.get(0));
+
+        //when & then
+        assertThrows(SeatSlottedLectureException.class, () -> lectureService.applyLecture(lecture.getId(), students.get(1)));
+        assertThrows(SeatSlottedLectureException.class,
+                () -> lectureService.applyLectureWithConditionalUpdate(lecture.getId(), students.get(1)));
+        assertThrows(SeatSlottedLectureException.class,
+                () -> lectureService.applyLectureWithFencing(lecture.getId(), students.get(1), 1));
+
+        List<BulkEnrollmentResultDto> results = lectureService.bulkApplyLectures(List.of(
+                new BulkEnrollmentItem(lecture.getId(), students.get(2)),
+                new BulkEnrollmentItem(lecture.getId(), students.get(3)),
+                new BulkEnrollmentItem(lecture.getId(), students.get(4))));
+        assertTrue(results.stream().allMatch(BulkEnrollmentResultDto::isApplied));
+        assertInvariant(lecture.getId(), capacity, 4);
+        assertEquals(0, lectureRepository.findById(lecture.getId()).orElseThrow().getCurrentEnrollment());
+    }
+
+    private void assertInvariant(Long lectureId, int capacity, int applied) {
+        Map<String, Object> sums = jdbcTemplate.queryForMap(
+                "SELECT SUM(capacity) AS capacity_sum, SUM(enrolled) AS enrolled_sum FROM lecture_seat_slot WHERE lecture_id = ?", lectureId);
+        int enrolledSum = ((Number) sums.get("enrolled_sum")).intValue();
+        int historyCount = lectureHistoryRepository.findStudentIdsByLectureIdAndStatus(lectureId, ApplicationStatus.APPLIED).size();
+
+        assertEquals(capacity, ((Number) sums.get("capacity_sum")).intValue());
+        assertEquals(applied, enrolledSum);
+        assertEquals(historyCount, enrolledSum);
+        assertTrue(enrolledSum <= capacity);
+    }
+
+    private Outcome applyConcurrently(Long lectureId, List<Student> students) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(students.size());
+        CountDownLatch latch = new CountDownLatch(students.size());
+        Outcome outcome = new Outcome();
+        for (Student student : students) {
+            executorService.submit(() -> {
+                try {
+                    shardedCounterEnrollmentStrategy.apply(lectureId, student);
+                    outcome.success.incrementAndGet();
+                } catch (LectureFullException e) {
+                    outcome.full.incrementAndGet();
+                } catch (LectureBusyException e) {
+                    outcome.busy.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        return outcome;
+    }
+
+    private Lecture saveLecture(int capacity) {
+        return lectureRepository.save(new Lecture("슬롯 특강", "김강사", capacity, LocalDateTime.now().plusDays(1)));
+    }
+
+    private List<Student> saveStudents(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setName("학생" + i);
+            students.add(studentRepository.save(student));
+        }
+        return students;
+    }
+
+    private static class Outcome {
+        private final AtomicInteger success = new AtomicInteger();
+        private final AtomicInteger full = new AtomicInteger();
+        private final AtomicInteger busy = new AtomicInteger();
+    }
+}
@@ -0,0 +1,52 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureEnrollmentChangedEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.LectureSoldOutEvent;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.LectureSeatSlotRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.SoldOutRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SoldOutRegistryTest {
+
+    private final LectureRepository lectureRepository = mock(LectureRepository.class);
+    private final LectureSeatSlotRepository lectureSeatSlotRepository = mock(LectureSeatSlotRepository.class);
+    private final SoldOutRegistry soldOutRegistry = new SoldOutRegistry(lectureRepository, lectureSeatSlotRepository, true);
+
+    @Test
+    @DisplayName("마지막 좌석이 채워지면 매진되고, 취소되면 다시 열리며, 대기자 승격으로 채워지면 다시 매진된다")
+    void soldOut_ReopensOnCancel() {
+        //when & then
+        soldOutRegistry.onSoldOut(new LectureSoldOutEvent(1L));
+        assertTrue(soldOutRegistry.isSoldOut(1L));
+
+        soldOutRegistry.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 10L, LectureEnrollmentChangedEvent.ChangeType.CANCELED));
+        assertFalse(soldOutRegistry.isSoldOut(1L));
+
+        soldOutRegistry.onEnrollmentChanged(new LectureEnrollmentChangedEvent(1L, 11L, LectureEnrollmentChangedEvent.ChangeType.PROMOTED));
+        assertTrue(soldOutRegistry.isSoldOut(1L));
+    }
+
+    @Test
+    @DisplayName("동기화 시 DB 기준 매진 목록으로 교체되어 다른 노드의 매진/취소가 반영된다")
+    void sync_ReplacesWithDatabaseState() {
+        //given
+        soldOutRegistry.markSoldOut(1L);
+        when(lectureRepository.findFullLectureIds()).thenReturn(List.of(2L));
+        when(lectureSeatSlotRepository.findFullLectureIds()).thenReturn(List.of(3L));
+
+        //when
+        soldOutRegistry.sync();
+
+        //then
+        assertFalse(soldOutRegistry.isSoldOut(1L));
+        assertTrue(soldOutRegistry.isSoldOut(2L));
+        assertTrue(soldOutRegistry.isSoldOut(3L));
+    }
+}
@@ -0,0 +1,114 @@
+package com.hhplus.hanghae_clean_arch;
+
+import com.hhplus.hanghae_clean_arch.biz.lecture.domain.Student;
+import com.hhplus.hanghae_clean_arch.biz.lecture.repository.StudentRepository;
+import com.hhplus.hanghae_clean_arch.biz.lecture.service.StudentResolver;
+import com.hhplus.hanghae_clean_arch.config.CacheConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StudentResolverTest {
+
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final StudentResolver studentResolver =
+            new StudentResolver(studentRepository, new ConcurrentMapCacheManager(CacheConfig.STUDENT_IDS));
+
+    @Test
+    @DisplayName("같은 외부 id는 최초 1회만 등록하고 이후에는 캐시된 학생 id를 사용한다")
+    void resolve_RegistersExternalIdOnce() {
+        //given
+        Student registered = new Student();
+        registered.setId(7L);
+        when(studentRepository.findIdByExternalId("user-1")).thenReturn(Optional.empty());
+        when(studentRepository.saveAndFlush(any(Student.class))).thenReturn(registered);
+
+        //when
+        Student first = studentResolver.resolve(newStudent("user-1"));
+        Student second = studentResolver.resolve(newStudent("user-1"));
+
+        //then
+        assertEquals(7L, first.getId());
+        assertEquals(7L, second.getId());
+        verify(studentRepository, times(1)).findIdByExternalId("user-1");
+        verify(studentRepository, times(1)).saveAndFlush(any(Student.class));
+    }
+
+    @Test
+    @DisplayName("id가 이미 있는 학생은 조회 없이 그대로 사용한다")
+    void resolve_KeepsExistingId() {
+        //given
+        Student student = newStudent("user-1");
+        student.setId(3L);
+
+        //when
+        Student resolved = studentResolver.resolve(student);
+
+        //then
+        assertEquals(3L, resolved.getId());
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    @DisplayName("외부 id가 없는 신청은 이름이 같아도 매번 새 학생으로 등록한다")
+    void resolve_RegistersAnonymousStudentEachTime() {
+        //given
+        Student firstRegistered = new Student();
+        firstRegistered.setId(5L);
+        Student secondRegistered = new Student();
+        secondRegistered.setId(6L);
+        when(studentRepository.saveAndFlush(any(Student.class))).thenReturn(firstRegistered, secondRegistered);
+
+        //when
+        Student first = studentResolver.resolve(newStudent(null));
+        Student second = studentResolver.resolve(newStudent(null));
+
+        //then
+        assertEquals(5L, first.getId());
+        assertEquals(6L, second.getId());
+        verify(studentRepository, times(2)).saveAndFlush(any(Student.class));
+        verify(studentRepository, never()).findIdByExternalId(any());
+    }
+
+    @Test
+    @DisplayName("일괄 신청용 조회는 외부 id만 한 번의 쿼리로 찾고 등록하지 않는다")
+    void findRegisteredIds_BatchedLookupWithoutInsert() {
+        //given
+        Student byExternalId = newStudent("user-1");
+        byExternalId.setId(1L);
+        when(studentRepository.findAllByExternalIdIn(List.of("user-1", "user-2"))).thenReturn(List.of(byExternalId));
+
+        Student anonymous = new Student();
+        anonymous.setName("김철수");
+
+        //when
+        Map<String, Long> ids = studentResolver.findRegisteredIds(List.of(newStudent("user-1"), newStudent("user-2"), anonymous));
+
+        //then
+        assertEquals(Map.of("external:user-1", 1L), ids);
+        verify(studentRepository, times(1)).findAllByExternalIdIn(any());
+        verify(studentRepository, never()).saveAndFlush(any(Student.class));
+        verify(studentRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("이름도 외부 id도 없는 학생은 확정할 수 없다")
+    void resolve_RejectsStudentWithoutNaturalKey() {
+        assertThrows(IllegalArgumentException.class, () -> studentResolver.resolve(new Student()));
+    }
+
+    private Student newStudent(String externalId) {
+        Student student = new Student();
+        student.setName("홍길동");
+        student.setExternalId(externalId);
+        return student;
+    }
+}